@@ -0,0 +1,192 @@
+package backend.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import backend.model.StanceMatchIndex.Stance;
+
+/**
+ * Picks quiz questions in the order that narrows down the matches fastest.
+ *
+ * A candidate stays plausible while it could still reach the current top-k with the
+ * questions left. The next question is the unanswered one whose stances split the
+ * plausible candidates most evenly (highest entropy), and the quiz stops once the
+ * top-k can no longer change or has stayed the same for several answers.
+ */
+public class AdaptiveQuestionSelector {
+
+    // Answers the top matches must survive unchanged before stopping early
+    private static final int STABLE_ANSWERS = 3;
+
+    private final StanceMatchIndex.RunningScores scores;
+    private final StanceMatchIndex index;
+    private final List<String> topics;
+    private final int topK;
+
+    private final boolean[] answered;
+    private int remaining;
+
+    // Bitset of candidates that can still reach the top-k
+    private final long[] plausible;
+
+    private List<Integer> lastTop = new ArrayList<>();
+    private int stableCount = 0;
+
+    /**
+     * @param scores Running scores to update as answers come in
+     * @param topics Stance topic for each question, null if the question has none
+     * @param topK Number of top matches that must be settled before stopping
+     */
+    public AdaptiveQuestionSelector(StanceMatchIndex.RunningScores scores, List<String> topics, int topK) {
+        this.scores = scores;
+        this.index = scores.getIndex();
+        this.topics = topics;
+        this.topK = topK;
+        this.answered = new boolean[topics.size()];
+        this.remaining = topics.size();
+
+        int size = index.size();
+        this.plausible = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            plausible[i >>> 6] |= 1L << i;
+        }
+    }
+
+    /**
+     * Record an answer, update the running scores and drop candidates that can no longer reach the top-k
+     */
+    public void recordAnswer(int questionIndex, Stance stance) {
+        if (answered[questionIndex]) {
+            return;
+        }
+        answered[questionIndex] = true;
+        remaining--;
+        scores.addAnswer(topics.get(questionIndex), stance);
+
+        List<Integer> top = scores.top(topK);
+        if (top.size() < topK) {
+            return;
+        }
+        int threshold = scores.countOf(top.get(top.size() - 1));
+
+        // Counts only grow by one per answer, so a dropped candidate never comes back
+        for (int w = 0; w < plausible.length; w++) {
+            long word = plausible[w];
+            while (word != 0) {
+                int candidate = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (scores.countOf(candidate) + remaining < threshold) {
+                    plausible[w] &= ~(1L << candidate);
+                }
+            }
+        }
+
+        // Order within the top-k does not matter, only who is in it
+        stableCount = new HashSet<>(top).equals(new HashSet<>(lastTop)) ? stableCount + 1 : 0;
+        lastTop = top;
+    }
+
+    /**
+     * Whether the top matches are settled and the quiz can end
+     */
+    public boolean isComplete() {
+        if (remaining == 0) {
+            return true;
+        }
+        if (lastTop.size() < topK) {
+            return false;
+        }
+
+        // No candidate outside the top-k can pass the last one in it. Ties go to the earlier
+        // candidate in the file, so an earlier outsider only has to draw level to get in
+        int last = lastTop.get(lastTop.size() - 1);
+        int threshold = scores.countOf(last);
+        boolean settled = true;
+        for (int w = 0; w < plausible.length && settled; w++) {
+            long word = plausible[w];
+            while (word != 0) {
+                int candidate = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (lastTop.contains(candidate)) {
+                    continue;
+                }
+                int best = scores.countOf(candidate) + remaining;
+                if (best > threshold || (best == threshold && candidate < last)) {
+                    settled = false;
+                    break;
+                }
+            }
+        }
+
+        return settled || stableCount >= STABLE_ANSWERS;
+    }
+
+    /**
+     * Get the next question to ask
+     *
+     * @return The question index, or -1 when the quiz is complete
+     */
+    public int nextQuestion() {
+        if (isComplete()) {
+            return -1;
+        }
+
+        int best = -1;
+        double bestGain = -1;
+        for (int q = 0; q < topics.size(); q++) {
+            if (answered[q]) {
+                continue;
+            }
+            double gain = splitEntropy(topics.get(q));
+            if (gain > bestGain) {
+                best = q;
+                bestGain = gain;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Entropy of how a question's stances partition the plausible candidates
+     */
+    private double splitEntropy(String topic) {
+        if (topic == null) {
+            return 0;
+        }
+
+        int total = 0;
+        for (long word : plausible) {
+            total += Long.bitCount(word);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double entropy = 0;
+        int withStance = 0;
+        for (Stance stance : Stance.values()) {
+            long[] bits = index.getBitset(topic, stance);
+            if (bits == null) {
+                continue;
+            }
+            int count = 0;
+            for (int w = 0; w < plausible.length; w++) {
+                count += Long.bitCount(plausible[w] & bits[w]);
+            }
+            withStance += count;
+            entropy += entropyTerm(count, total);
+        }
+
+        // Candidates with no data on the topic form their own group
+        return entropy + entropyTerm(total - withStance, total);
+    }
+
+    private static double entropyTerm(int count, int total) {
+        if (count == 0) {
+            return 0;
+        }
+        double p = (double) count / total;
+        return -p * Math.log(p);
+    }
+}
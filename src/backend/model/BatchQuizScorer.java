@@ -0,0 +1,278 @@
+package backend.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import backend.model.StanceMatchIndex.Stance;
+
+/**
+ * Headless entry point for scoring quiz responses in bulk.
+ *
+ * The input CSV has a header row of "respondent id" followed by one column per
+ * quiz question (question text as it appears in quizquestions.txt), then one row
+ * per respondent with Agree / Disagree / Neutral answers. Blank answers are skipped.
+ * Both files are UTF-8.
+ *
+ * Rows are read in batches, scored in parallel with the same StanceMatchIndex the
+ * quiz uses, and written in input order. Only a few batches are in flight at once,
+ * so memory stays bounded regardless of file size.
+ *
+ * Usage: java -cp bin backend.model.BatchQuizScorer responses.csv matches.csv [topK] [threads]
+ */
+public class BatchQuizScorer {
+
+    private static final int BATCH_SIZE = 4096;
+
+    private final StanceMatchIndex index;
+    private final int topK;
+    private final int threads;
+
+    // Stance topic for each answer column
+    private List<String> columnTopics;
+
+    public BatchQuizScorer(StanceMatchIndex index, int topK, int threads) {
+        if (topK < 1 || threads < 1) {
+            throw new IllegalArgumentException("topK and threads must be positive");
+        }
+        this.index = index;
+        this.topK = topK;
+        this.threads = threads;
+    }
+
+    private static final String USAGE = "Usage: BatchQuizScorer <responses.csv> <output.csv> [topK] [threads]";
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        int topK = args.length > 2 ? parsePositive(args[2], "topK") : 5;
+        int threads = args.length > 3 ? parsePositive(args[3], "threads") : Runtime.getRuntime().availableProcessors();
+
+        try {
+            long start = System.currentTimeMillis();
+            BatchQuizScorer scorer = new BatchQuizScorer(StanceMatchIndex.getInstance(), topK, threads);
+            long rows = scorer.scoreFile(args[0], args[1]);
+            System.out.println("Scored " + rows + " responses in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (IOException e) {
+            System.err.println("Error scoring responses: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parse a count argument, exiting with the usage message unless it is a positive integer
+     */
+    private static int parsePositive(String value, String name) {
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println(name + " must be a positive integer, got: " + value);
+        System.err.println(USAGE);
+        System.exit(1);
+        return 0;
+    }
+
+    /**
+     * Score every row of the input file and write the top matches to the output file
+     *
+     * @return The number of respondents scored
+     */
+    public long scoreFile(String inputPath, String outputPath) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Queue<Future<List<String>>> pending = new ArrayDeque<>();
+        long rowCount = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                 new InputStreamReader(new FileInputStream(inputPath), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(
+                 new OutputStreamWriter(new FileOutputStream(outputPath), StandardCharsets.UTF_8))) {
+
+            String header = reader.readLine();
+            if (header == null) {
+                return 0;
+            }
+            readHeader(header);
+            writeHeader(writer);
+
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                batch.add(line);
+                rowCount++;
+
+                if (batch.size() == BATCH_SIZE) {
+                    final List<String> rows = batch;
+                    pending.add(pool.submit(() -> scoreBatch(rows)));
+                    batch = new ArrayList<>(BATCH_SIZE);
+
+                    // Keep a bounded number of batches in flight, writing in input order
+                    while (pending.size() > threads * 2) {
+                        writeBatch(writer, pending.poll());
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                final List<String> rows = batch;
+                pending.add(pool.submit(() -> scoreBatch(rows)));
+            }
+            while (!pending.isEmpty()) {
+                writeBatch(writer, pending.poll());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return rowCount;
+    }
+
+    private void readHeader(String header) {
+        StanceTopicDictionary dictionary = StanceTopicDictionary.getInstance();
+        List<String> columns = parseCsvLine(header);
+        columnTopics = new ArrayList<>();
+
+        // First column is the respondent id
+        for (int i = 1; i < columns.size(); i++) {
+            String topic = dictionary.resolveTopic(columns.get(i));
+            if (topic == null) {
+                System.err.println("WARNING: no stance topic for column: " + columns.get(i));
+            }
+            columnTopics.add(topic);
+        }
+    }
+
+    private void writeHeader(BufferedWriter writer) throws IOException {
+        StringBuilder header = new StringBuilder("respondent_id,answered");
+        for (int rank = 1; rank <= topK; rank++) {
+            header.append(",match_").append(rank)
+                  .append(",party_").append(rank)
+                  .append(",percent_").append(rank);
+        }
+        writer.write(header.toString());
+        writer.newLine();
+    }
+
+    private void writeBatch(BufferedWriter writer, Future<List<String>> future) throws IOException {
+        try {
+            for (String row : future.get()) {
+                writer.write(row);
+                writer.newLine();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scoring responses", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error scoring responses", e.getCause());
+        }
+    }
+
+    private List<String> scoreBatch(List<String> lines) {
+        List<String> output = new ArrayList<>(lines.size());
+        List<String> topics = new ArrayList<>(columnTopics.size());
+        List<Stance> answers = new ArrayList<>(columnTopics.size());
+
+        for (String line : lines) {
+            List<String> fields = parseCsvLine(line);
+            topics.clear();
+            answers.clear();
+
+            for (int i = 1; i < fields.size() && i <= columnTopics.size(); i++) {
+                String answer = fields.get(i).trim();
+                if (answer.isEmpty()) {
+                    continue;
+                }
+                topics.add(columnTopics.get(i - 1));
+                answers.add(Stance.parse(answer));
+            }
+
+            output.add(formatRow(fields.isEmpty() ? "" : fields.get(0), topics, answers));
+        }
+
+        return output;
+    }
+
+    private String formatRow(String respondentId, List<String> topics, List<Stance> answers) {
+        StanceMatchIndex.Scores scores = index.score(topics, answers);
+        StringBuilder row = new StringBuilder(escapeCsv(respondentId)).append(',').append(answers.size());
+
+        for (int candidateIndex : scores.top(topK)) {
+            Candidate candidate = index.getCandidate(candidateIndex);
+            // Percentage with one decimal place, without the cost of String.format per row
+            long tenths = answers.isEmpty() ? 0 : Math.round(1000.0 * scores.countOf(candidateIndex) / answers.size());
+            row.append(',').append(escapeCsv(candidate.getName()))
+               .append(',').append(escapeCsv(candidate.getParty()))
+               .append(',').append(tenths / 10).append('.').append(tenths % 10);
+        }
+
+        return row.toString();
+    }
+
+    /**
+     * Split a CSV line into fields, honoring double-quoted fields
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
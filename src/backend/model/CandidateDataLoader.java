@@ -2,7 +2,6 @@ package backend.model;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +26,12 @@ public class CandidateDataLoader {
         "dynasty", "political dynasty", "media", "press freedom", "endo"
     };
     
+    // Candidate index and the file state it was built from
+    private static CandidateIndex snapshot;
+    private static File snapshotFile;
+    private static long snapshotModified;
+    private static long snapshotLength;
+    
     /**
      * Represents a candidate with their basic information
      */
@@ -308,151 +313,177 @@ public class CandidateDataLoader {
     }
     
     /**
-     * Load candidates from the data file
+     * Load candidates from the data file.
+     * The parsed candidates are kept until the file changes, so every screen after
+     * the first gets its list without reading the file again.
+     *
+     * @return A new list the caller may sort or filter
      */
     public static List<Candidate> loadCandidates() {
-        List<Candidate> candidates = new ArrayList<>();
+        return loadIndex().getCandidates();
+    }
+    
+    /**
+     * Get the index for the current candidates file, rebuilding it only when the file changed
+     *
+     * @return The index, from the resource pack if the file is missing, empty if neither can be read
+     */
+    static CandidateIndex loadIndex() {
+        File candidatesFile = findCandidatesFile();
+        if (candidatesFile == null) {
+            return CandidateIndex.getPacked();
+        }
         
-        try {
-            // Try to load from the resources directory first
-            File candidatesFile = new File("resources/data/candidates.txt");
-            
-            // If not found, try alternative paths
-            if (!candidatesFile.exists()) {
-                // Try various alternative paths
-                String[] possiblePaths = {
-                    "data/candidates.txt",
-                    "../resources/data/candidates.txt",
-                    "candidates.txt"
-                };
-                
-                for (String path : possiblePaths) {
-                    File testFile = new File(path);
-                    if (testFile.exists()) {
-                        candidatesFile = testFile;
-                        System.out.println("Found candidates file at: " + path);
-                        break;
-                    }
+        synchronized (CandidateDataLoader.class) {
+            if (snapshot == null || !candidatesFile.equals(snapshotFile)
+                    || candidatesFile.lastModified() != snapshotModified
+                    || candidatesFile.length() != snapshotLength) {
+                long modified = candidatesFile.lastModified();
+                long length = candidatesFile.length();
+                try {
+                    snapshot = CandidateIndex.load(candidatesFile);
+                    snapshotFile = candidatesFile;
+                    snapshotModified = modified;
+                    snapshotLength = length;
+                } catch (IOException e) {
+                    System.out.println("Error reading candidates file: " + e.getMessage());
+                    e.printStackTrace();
+                    return CandidateIndex.EMPTY;
                 }
             }
+            return snapshot;
+        }
+    }
+    
+    /**
+     * Find the candidates file, trying the usual locations
+     *
+     * @return The file, or null if it does not exist
+     */
+    static File findCandidatesFile() {
+        // Try to load from the resources directory first
+        File candidatesFile = new File("resources/data/candidates.txt");
+        
+        // If not found, try alternative paths
+        if (!candidatesFile.exists()) {
+            // Try various alternative paths
+            String[] possiblePaths = {
+                "data/candidates.txt",
+                "../resources/data/candidates.txt",
+                "candidates.txt"
+            };
             
-            if (!candidatesFile.exists()) {
-                System.err.println("WARNING: candidates.txt file not found");
-                return candidates; // Return empty list
-            }
-            
-            // Read the file line by line
-            BufferedReader reader = new BufferedReader(new FileReader(candidatesFile));
-            String line;
-            String name = null;
-            String position = null;
-            String party = null;
-            String region = null;
-            String age = null;
-            String imagePath = null;
-            String supportedIssues = null;
-            String opposedIssues = null;
-            String platforms = null;
-            String notableLaws = null;
-            Candidate currentCandidate = null;
-            
-            while ((line = reader.readLine()) != null) {
-                // Skip comments and empty lines
-                if (line.trim().isEmpty() || line.trim().startsWith("#")) {
-                    continue;
+            for (String path : possiblePaths) {
+                File testFile = new File(path);
+                if (testFile.exists()) {
+                    candidatesFile = testFile;
+                    System.out.println("Found candidates file at: " + path);
+                    break;
                 }
-                
-                // If we encounter a new "Name:" entry and already have candidate data,
-                // add the previous candidate to the list before starting the new one
-                if (line.startsWith("Name:") && name != null) {
-                    currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
-                    if (platforms != null) {
-                        currentCandidate.setPlatforms(platforms);
-                    }
-                    if (notableLaws != null) {
-                        currentCandidate.setNotableLaws(notableLaws);
+            }
+        }
+        
+        return candidatesFile.exists() ? candidatesFile : null;
+    }
+    
+    /**
+     * Parse all candidates from the contents of the data file
+     */
+    static List<Candidate> parseCandidates(BufferedReader reader) throws IOException {
+        List<Candidate> candidates = new ArrayList<>();
+        
+        // Read the file line by line
+        String line;
+        String name = null;
+        String position = null;
+        String party = null;
+        String region = null;
+        String age = null;
+        String imagePath = null;
+        String supportedIssues = null;
+        String opposedIssues = null;
+        String platforms = null;
+        String notableLaws = null;
+        Candidate currentCandidate = null;
+        
+        while ((line = reader.readLine()) != null) {
+            // Skip comments and empty lines
+            if (line.trim().isEmpty() || line.trim().startsWith("#")) {
+                continue;
+            }
+        
+            // If we encounter a new "Name:" entry and already have candidate data,
+            // add the previous candidate to the list before starting the new one
+            if (line.startsWith("Name:") && name != null) {
+                Candidate previousCandidate = currentCandidate;
+                currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
+
+                // Keep the social stances collected before the remaining fields were read
+                if (previousCandidate != null) {
+                    for (String stance : previousCandidate.getSocialStances()) {
+                        currentCandidate.addSocialStance(stance);
                     }
-                    candidates.add(currentCandidate);
-                    
-                    // Reset candidate data
-                    name = null;
-                    position = null;
-                    party = null;
-                    region = null;
-                    age = null;
-                    imagePath = null;
-                    supportedIssues = null;
-                    opposedIssues = null;
-                    platforms = null;
-                    notableLaws = null;
-                    currentCandidate = null;
                 }
-                
-                // Parse each line based on prefix
-                if (line.startsWith("Name:")) {
-                    name = line.substring("Name:".length()).trim();
-                } else if (line.startsWith("Position:")) {
-                    position = line.substring("Position:".length()).trim();
-                } else if (line.startsWith("Positions:")) {
-                    // Support both singular and plural forms for backward compatibility
-                    position = line.substring("Positions:".length()).trim();
-                } else if (line.startsWith("Running Position:")) {
-                    // Support the "Running Position:" format found in newer data entries
-                    position = line.substring("Running Position:".length()).trim();
-                } else if (line.startsWith("Party Affiliation:")) {
-                    party = line.substring("Party Affiliation:".length()).trim();
-                } else if (line.startsWith("Region:")) {
-                    region = line.substring("Region:".length()).trim();
-                } else if (line.startsWith("Hometown Region:")) {
-                    // Support "Hometown Region:" as an alternative to "Region:"
-                    region = line.substring("Hometown Region:".length()).trim();
-                } else if (line.startsWith("Age:")) {
-                    age = line.substring("Age:".length()).trim();
-                } else if (line.startsWith("Image:")) {
-                    imagePath = line.substring("Image:".length()).trim();
-                } else if (line.startsWith("Supported Issues:")) {
-                    supportedIssues = line.substring("Supported Issues:".length()).trim();
-                } else if (line.startsWith("Opposed Issues:")) {
-                    opposedIssues = line.substring("Opposed Issues:".length()).trim();
-                } else if (line.startsWith("Platforms:") || line.startsWith("Platform:")) {
-                    // Handle both singular and plural forms
-                    String prefix = line.startsWith("Platforms:") ? "Platforms:" : "Platform:";
-                    platforms = line.substring(prefix.length()).trim();
-                } else if (line.startsWith("Notable Laws:") || line.startsWith("Notable Laws Enacted:")) {
-                    // Handle different prefixes for notable laws
-                    String prefix = line.startsWith("Notable Laws:") ? "Notable Laws:" : "Notable Laws Enacted:";
-                    notableLaws = line.substring(prefix.length()).trim();
-                } else if (line.startsWith("Social Stance:")) {
-                    // Handle Social Stance entries
-                    if (currentCandidate == null && name != null) {
-                        // Create the candidate object if we haven't already
-                        currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
-                        if (platforms != null) {
-                            currentCandidate.setPlatforms(platforms);
-                        }
-                        if (notableLaws != null) {
-                            currentCandidate.setNotableLaws(notableLaws);
-                        }
-                    }
-                    
-                    if (currentCandidate != null) {
-                        currentCandidate.addSocialStance(line.substring("Social Stance:".length()).trim());
-                    }
-                } else if (line.startsWith("Stances On Social Issues:") && currentCandidate == null && name != null) {
-                    // Create the candidate object when we see the "Stances On Social Issues:" header
-                    currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
-                    if (platforms != null) {
-                        currentCandidate.setPlatforms(platforms);
-                    }
-                    if (notableLaws != null) {
-                        currentCandidate.setNotableLaws(notableLaws);
-                    }
+                if (platforms != null) {
+                    currentCandidate.setPlatforms(platforms);
                 }
-            }
+                if (notableLaws != null) {
+                    currentCandidate.setNotableLaws(notableLaws);
+                }
+                candidates.add(currentCandidate);
             
-            // Add the last candidate if there's data
-            if (name != null) {
-                if (currentCandidate == null) {
+                // Reset candidate data
+                name = null;
+                position = null;
+                party = null;
+                region = null;
+                age = null;
+                imagePath = null;
+                supportedIssues = null;
+                opposedIssues = null;
+                platforms = null;
+                notableLaws = null;
+                currentCandidate = null;
+            }
+        
+            // Parse each line based on prefix
+            if (line.startsWith("Name:")) {
+                name = line.substring("Name:".length()).trim();
+            } else if (line.startsWith("Position:")) {
+                position = line.substring("Position:".length()).trim();
+            } else if (line.startsWith("Positions:")) {
+                // Support both singular and plural forms for backward compatibility
+                position = line.substring("Positions:".length()).trim();
+            } else if (line.startsWith("Running Position:")) {
+                // Support the "Running Position:" format found in newer data entries
+                position = line.substring("Running Position:".length()).trim();
+            } else if (line.startsWith("Party Affiliation:")) {
+                party = line.substring("Party Affiliation:".length()).trim();
+            } else if (line.startsWith("Region:")) {
+                region = line.substring("Region:".length()).trim();
+            } else if (line.startsWith("Hometown Region:")) {
+                // Support "Hometown Region:" as an alternative to "Region:"
+                region = line.substring("Hometown Region:".length()).trim();
+            } else if (line.startsWith("Age:")) {
+                age = line.substring("Age:".length()).trim();
+            } else if (line.startsWith("Image:")) {
+                imagePath = line.substring("Image:".length()).trim();
+            } else if (line.startsWith("Supported Issues:")) {
+                supportedIssues = line.substring("Supported Issues:".length()).trim();
+            } else if (line.startsWith("Opposed Issues:")) {
+                opposedIssues = line.substring("Opposed Issues:".length()).trim();
+            } else if (line.startsWith("Platforms:") || line.startsWith("Platform:")) {
+                // Handle both singular and plural forms
+                String prefix = line.startsWith("Platforms:") ? "Platforms:" : "Platform:";
+                platforms = line.substring(prefix.length()).trim();
+            } else if (line.startsWith("Notable Laws:") || line.startsWith("Notable Laws Enacted:")) {
+                // Handle different prefixes for notable laws
+                String prefix = line.startsWith("Notable Laws:") ? "Notable Laws:" : "Notable Laws Enacted:";
+                notableLaws = line.substring(prefix.length()).trim();
+            } else if (line.startsWith("Social Stance:")) {
+                // Handle Social Stance entries
+                if (currentCandidate == null && name != null) {
+                    // Create the candidate object if we haven't already
                     currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
                     if (platforms != null) {
                         currentCandidate.setPlatforms(platforms);
@@ -461,12 +492,38 @@ public class CandidateDataLoader {
                         currentCandidate.setNotableLaws(notableLaws);
                     }
                 }
-                candidates.add(currentCandidate);
-            }
             
-        } catch (IOException e) {
-            System.out.println("Error reading candidates file: " + e.getMessage());
-            e.printStackTrace();
+                if (currentCandidate != null) {
+                    currentCandidate.addSocialStance(line.substring("Social Stance:".length()).trim());
+                }
+            } else if (line.startsWith("Stances On Social Issues:") && currentCandidate == null && name != null) {
+                // Create the candidate object when we see the "Stances On Social Issues:" header
+                currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
+                if (platforms != null) {
+                    currentCandidate.setPlatforms(platforms);
+                }
+                if (notableLaws != null) {
+                    currentCandidate.setNotableLaws(notableLaws);
+                }
+            }
+        }
+        
+        // Add the last candidate if there's data
+        if (name != null) {
+            Candidate previousCandidate = currentCandidate;
+            currentCandidate = new Candidate(name, position, party, region, age, imagePath, supportedIssues, opposedIssues);
+            if (previousCandidate != null) {
+                for (String stance : previousCandidate.getSocialStances()) {
+                    currentCandidate.addSocialStance(stance);
+                }
+            }
+            if (platforms != null) {
+                currentCandidate.setPlatforms(platforms);
+            }
+            if (notableLaws != null) {
+                currentCandidate.setNotableLaws(notableLaws);
+            }
+            candidates.add(currentCandidate);
         }
         
         return candidates;
@@ -0,0 +1,519 @@
+package backend.model;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import util.ResourceHelper;
+import util.ResourcePack;
+import util.StartupTrace;
+
+/**
+ * Everything derived from candidates.txt, built once per version of the file.
+ *
+ * Holds the parsed candidates, the candidates sorted by surname, the position
+ * groups shown in the overview, and the attribute records and social stance topics
+ * used by the comparison screen. The index is saved to a cache file together with a
+ * SHA-256 hash of the data file and the charset it is decoded with, so a launch with
+ * unchanged data reads it back in one read instead of parsing the text again. When
+ * the hash differs, the data is parsed as before and the cache file is rewritten in
+ * the background.
+ *
+ * The cache file is ~/.gabay/candidate-index.bin and can be moved with
+ * -Dgabay.candidateIndex=PATH.
+ */
+public class CandidateIndex {
+
+    private static final File CACHE_FILE = new File(System.getProperty("gabay.candidateIndex",
+            System.getProperty("user.home") + File.separator + ".gabay" + File.separator + "candidate-index.bin"));
+
+    private static final int MAGIC = 0x47424349; // "GBCI"
+    // Bump whenever the parsing rules or the layout below change
+    private static final int VERSION = 2;
+
+    // Positions listed first in the overview, in this order; others follow alphabetically
+    private static final List<String> POSITION_ORDER = Arrays.asList(
+        "President",
+        "Vice President",
+        "Senator",
+        "Governor",
+        "Vice Governor",
+        "Partylist Representative"
+    );
+
+    static final CandidateIndex EMPTY = new CandidateIndex(new ArrayList<>(),
+            new HashMap<>(), new ArrayList<>());
+
+    private static final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "candidate-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Index of the candidates file in the resource pack, which does not change while running
+    private static CandidateIndex packed;
+
+    private final List<CandidateDataLoader.Candidate> candidates;
+    private final List<CandidateDataLoader.Candidate> bySurname;
+    private final LinkedHashMap<String, List<CandidateDataLoader.Candidate>> byPosition;
+    private final Map<String, Map<String, String>> records;
+    private final List<String> stanceTopics;
+
+    private CandidateIndex(List<CandidateDataLoader.Candidate> candidates,
+                           Map<String, Map<String, String>> records, List<String> stanceTopics) {
+        this.candidates = candidates;
+        this.records = records;
+        this.stanceTopics = stanceTopics;
+        this.bySurname = sortBySurname(candidates);
+        this.byPosition = groupByPosition(bySurname);
+    }
+
+    private CandidateIndex(List<CandidateDataLoader.Candidate> candidates,
+                           List<CandidateDataLoader.Candidate> bySurname,
+                           LinkedHashMap<String, List<CandidateDataLoader.Candidate>> byPosition,
+                           Map<String, Map<String, String>> records, List<String> stanceTopics) {
+        this.candidates = candidates;
+        this.bySurname = bySurname;
+        this.byPosition = byPosition;
+        this.records = records;
+        this.stanceTopics = stanceTopics;
+    }
+
+    /**
+     * Get the index for the current candidates file, loading or building it if the file changed
+     *
+     * @return The index, empty if the file is missing or unreadable
+     */
+    public static CandidateIndex get() {
+        return CandidateDataLoader.loadIndex();
+    }
+
+    /**
+     * Get the index for the candidates file in the resource pack, used when there is none on disk
+     */
+    static synchronized CandidateIndex getPacked() {
+        if (packed != null) {
+            return packed;
+        }
+        ByteBuffer buffer = ResourcePack.get(ResourceHelper.getDataFile("candidates.txt"));
+        if (buffer == null) {
+            System.err.println("WARNING: candidates.txt file not found");
+            return EMPTY;
+        }
+
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        try {
+            packed = load("candidates.txt", data);
+            return packed;
+        } catch (IOException e) {
+            System.out.println("Error reading packed candidates file: " + e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Candidates in file order
+     *
+     * @return A new list the caller may sort or filter
+     */
+    public List<CandidateDataLoader.Candidate> getCandidates() {
+        return new ArrayList<>(candidates);
+    }
+
+    /**
+     * Candidates sorted by surname (last word of the name), then by full name
+     *
+     * @return A new list the caller may sort or filter
+     */
+    public List<CandidateDataLoader.Candidate> getCandidatesBySurname() {
+        return new ArrayList<>(bySurname);
+    }
+
+    /**
+     * Candidates grouped by position, in overview order, each group sorted by surname
+     */
+    public Map<String, List<CandidateDataLoader.Candidate>> getCandidatesByPosition() {
+        return Collections.unmodifiableMap(byPosition);
+    }
+
+    /**
+     * Attribute records by candidate name, social stances stored as "Social Stance: Topic" -> stance
+     */
+    public Map<String, Map<String, String>> getRecords() {
+        return Collections.unmodifiableMap(records);
+    }
+
+    /**
+     * Social stance topics in the order they first appear in the file
+     */
+    public List<String> getStanceTopics() {
+        return Collections.unmodifiableList(stanceTopics);
+    }
+
+    /**
+     * Read the index for a candidates file on disk
+     */
+    static CandidateIndex load(File file) throws IOException {
+        return load(file.getName(), Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Read the index from the cache file if it matches the data, otherwise build and save it
+     *
+     * @param name Data file name, for the trace
+     * @param data Contents of the data file
+     */
+    static CandidateIndex load(String name, byte[] data) throws IOException {
+        // Decoded like FileReader does, since the admin screens write the file with FileWriter
+        Charset charset = Charset.defaultCharset();
+        byte[] hash = sha256(data, charset);
+
+        CandidateIndex cached = readCache(hash);
+        if (cached != null) {
+            System.out.println("Loaded candidate index with " + cached.candidates.size() + " candidates from cache");
+            return cached;
+        }
+
+        CandidateIndex index;
+        StartupTrace.Span span = StartupTrace.begin("data", "parse " + name);
+        try {
+            String text = new String(data, charset);
+            List<CandidateDataLoader.Candidate> candidates =
+                    CandidateDataLoader.parseCandidates(new BufferedReader(new StringReader(text)));
+            Map<String, Map<String, String>> records = new HashMap<>();
+            List<String> stanceTopics = new ArrayList<>();
+            parseRecords(new BufferedReader(new StringReader(text)), records, stanceTopics);
+            index = new CandidateIndex(candidates, records, stanceTopics);
+        } finally {
+            span.close();
+        }
+        saveExecutor.submit(() -> writeCache(index, hash));
+        return index;
+    }
+
+    /**
+     * Parse the data file into attribute records, one map per candidate
+     */
+    private static void parseRecords(BufferedReader reader, Map<String, Map<String, String>> records,
+                                     List<String> stanceTopics) throws IOException {
+        String line;
+        Map<String, String> currentCandidate = null;
+        String currentName = null;
+
+        while ((line = reader.readLine()) != null) {
+            // Empty line indicates end of current candidate record
+            if (line.trim().isEmpty()) {
+                if (currentCandidate != null && currentName != null) {
+                    records.put(currentName, currentCandidate);
+                    currentCandidate = null;
+                    currentName = null;
+                }
+                continue;
+            }
+
+            // Start of a new candidate record
+            if (line.startsWith("Name:")) {
+                // Save previous candidate if exists
+                if (currentCandidate != null && currentName != null) {
+                    records.put(currentName, currentCandidate);
+                }
+
+                currentName = line.substring(6).trim();
+                currentCandidate = new HashMap<>();
+                currentCandidate.put("Name", currentName);
+                continue;
+            }
+
+            if (currentCandidate == null || !line.contains(":")) {
+                continue;
+            }
+            String[] parts = line.split(":", 2);
+            String key = parts[0].trim();
+            String value = parts[1].trim();
+
+            if (key.equals("Social Stance")) {
+                // Format is "Social Stance: Topic - Stance", stored as "Social Stance: Topic" -> "Stance"
+                if (value.contains(" - ")) {
+                    String[] stanceParts = value.split(" - ", 2);
+                    String topic = stanceParts[0].trim();
+                    currentCandidate.put("Social Stance: " + topic, stanceParts[1].trim());
+                    if (!stanceTopics.contains(topic)) {
+                        stanceTopics.add(topic);
+                    }
+                } else {
+                    // Just in case it doesn't follow the expected format
+                    currentCandidate.put(key, value);
+                }
+            } else {
+                currentCandidate.put(key, value);
+            }
+        }
+
+        // Add the last candidate
+        if (currentCandidate != null && currentName != null) {
+            records.put(currentName, currentCandidate);
+        }
+    }
+
+    private static List<CandidateDataLoader.Candidate> sortBySurname(List<CandidateDataLoader.Candidate> candidates) {
+        List<CandidateDataLoader.Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparing((CandidateDataLoader.Candidate c) -> surnameOf(c.getName()))
+                .thenComparing(c -> c.getName().trim(), String.CASE_INSENSITIVE_ORDER));
+        return sorted;
+    }
+
+    private static String surnameOf(String name) {
+        String trimmed = name.trim();
+        return trimmed.isEmpty() ? "" : trimmed.substring(trimmed.lastIndexOf(' ') + 1).toLowerCase();
+    }
+
+    private static LinkedHashMap<String, List<CandidateDataLoader.Candidate>> groupByPosition(
+            List<CandidateDataLoader.Candidate> sorted) {
+        Map<String, List<CandidateDataLoader.Candidate>> groups = new HashMap<>();
+        for (CandidateDataLoader.Candidate candidate : sorted) {
+            if (candidate.getPosition() != null) {
+                groups.computeIfAbsent(candidate.getPosition(), k -> new ArrayList<>()).add(candidate);
+            }
+        }
+
+        List<String> positions = new ArrayList<>();
+        for (String position : POSITION_ORDER) {
+            if (groups.containsKey(position)) {
+                positions.add(position);
+            }
+        }
+        List<String> remaining = new ArrayList<>(groups.keySet());
+        remaining.removeAll(POSITION_ORDER);
+        Collections.sort(remaining);
+        positions.addAll(remaining);
+
+        LinkedHashMap<String, List<CandidateDataLoader.Candidate>> ordered = new LinkedHashMap<>();
+        for (String position : positions) {
+            ordered.put(position, Collections.unmodifiableList(groups.get(position)));
+        }
+        return ordered;
+    }
+
+    /**
+     * Hash of the data and its charset, so a cache decoded under another charset is not reused
+     */
+    private static byte[] sha256(byte[] data, Charset charset) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(charset.name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return digest.digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the cache file in one go
+     *
+     * @return The cached index, or null if there is none or it was built from other data
+     */
+    private static CandidateIndex readCache(byte[] hash) {
+        if (!CACHE_FILE.exists()) {
+            return null;
+        }
+        StartupTrace.Span span = StartupTrace.begin("data", "read candidate index");
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(CACHE_FILE.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            byte[] cachedHash = new byte[hash.length];
+            in.readFully(cachedHash);
+            if (!Arrays.equals(hash, cachedHash)) {
+                return null;
+            }
+
+            int count = in.readInt();
+            List<CandidateDataLoader.Candidate> candidates = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                candidates.add(readCandidate(in));
+            }
+
+            List<CandidateDataLoader.Candidate> bySurname = readCandidateRefs(in, candidates);
+            int positionCount = in.readInt();
+            LinkedHashMap<String, List<CandidateDataLoader.Candidate>> byPosition = new LinkedHashMap<>();
+            for (int i = 0; i < positionCount; i++) {
+                String position = readString(in);
+                byPosition.put(position, Collections.unmodifiableList(readCandidateRefs(in, candidates)));
+            }
+
+            int recordCount = in.readInt();
+            Map<String, Map<String, String>> records = new HashMap<>();
+            for (int i = 0; i < recordCount; i++) {
+                String name = readString(in);
+                int attributeCount = in.readInt();
+                Map<String, String> record = new HashMap<>();
+                for (int j = 0; j < attributeCount; j++) {
+                    record.put(readString(in), readString(in));
+                }
+                records.put(name, record);
+            }
+
+            int topicCount = in.readInt();
+            List<String> stanceTopics = new ArrayList<>(topicCount);
+            for (int i = 0; i < topicCount; i++) {
+                stanceTopics.add(readString(in));
+            }
+            return new CandidateIndex(candidates, bySurname, byPosition, records, stanceTopics);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable candidate index: " + e.getMessage());
+            return null;
+        } finally {
+            span.close();
+        }
+    }
+
+    private static void writeCache(CandidateIndex index, byte[] hash) {
+        File dir = CACHE_FILE.getAbsoluteFile().getParentFile();
+        if (!dir.exists() && !dir.mkdirs()) {
+            System.err.println("Cannot create " + dir);
+            return;
+        }
+
+        Map<CandidateDataLoader.Candidate, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < index.candidates.size(); i++) {
+            positions.put(index.candidates.get(i), i);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(hash);
+
+            out.writeInt(index.candidates.size());
+            for (CandidateDataLoader.Candidate candidate : index.candidates) {
+                writeCandidate(out, candidate);
+            }
+
+            writeCandidateRefs(out, index.bySurname, positions);
+            out.writeInt(index.byPosition.size());
+            for (Map.Entry<String, List<CandidateDataLoader.Candidate>> group : index.byPosition.entrySet()) {
+                writeString(out, group.getKey());
+                writeCandidateRefs(out, group.getValue(), positions);
+            }
+
+            out.writeInt(index.records.size());
+            for (Map.Entry<String, Map<String, String>> record : index.records.entrySet()) {
+                writeString(out, record.getKey());
+                out.writeInt(record.getValue().size());
+                for (Map.Entry<String, String> attribute : record.getValue().entrySet()) {
+                    writeString(out, attribute.getKey());
+                    writeString(out, attribute.getValue());
+                }
+            }
+
+            out.writeInt(index.stanceTopics.size());
+            for (String topic : index.stanceTopics) {
+                writeString(out, topic);
+            }
+            out.flush();
+
+            File temp = new File(dir, CACHE_FILE.getName() + ".tmp");
+            Files.write(temp.toPath(), bytes.toByteArray());
+            Files.move(temp.toPath(), CACHE_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Saved candidate index with " + index.candidates.size() + " candidates");
+        } catch (IOException e) {
+            System.err.println("Error saving candidate index: " + e.getMessage());
+        }
+    }
+
+    private static void writeCandidate(DataOutputStream out, CandidateDataLoader.Candidate candidate) throws IOException {
+        writeString(out, candidate.getName());
+        writeString(out, candidate.getPosition());
+        writeString(out, candidate.getParty());
+        writeString(out, candidate.getRegion());
+        writeString(out, candidate.getAge());
+        writeString(out, candidate.getImagePath());
+        writeString(out, candidate.getSupportedIssues());
+        writeString(out, candidate.getOpposedIssues());
+        writeString(out, candidate.getPlatforms());
+        writeString(out, candidate.getNotableLaws());
+        out.writeInt(candidate.getSocialStances().size());
+        for (String stance : candidate.getSocialStances()) {
+            writeString(out, stance);
+        }
+    }
+
+    private static CandidateDataLoader.Candidate readCandidate(DataInputStream in) throws IOException {
+        CandidateDataLoader.Candidate candidate = new CandidateDataLoader.Candidate(
+                readString(in), readString(in), readString(in), readString(in), readString(in),
+                readString(in), readString(in), readString(in));
+        candidate.setPlatforms(readString(in));
+        candidate.setNotableLaws(readString(in));
+        int stances = in.readInt();
+        for (int i = 0; i < stances; i++) {
+            candidate.addSocialStance(readString(in));
+        }
+        return candidate;
+    }
+
+    private static void writeCandidateRefs(DataOutputStream out, List<CandidateDataLoader.Candidate> list,
+                                           Map<CandidateDataLoader.Candidate, Integer> positions) throws IOException {
+        out.writeInt(list.size());
+        for (CandidateDataLoader.Candidate candidate : list) {
+            out.writeInt(positions.get(candidate));
+        }
+    }
+
+    private static List<CandidateDataLoader.Candidate> readCandidateRefs(DataInputStream in,
+                                                                        List<CandidateDataLoader.Candidate> candidates)
+            throws IOException {
+        int count = in.readInt();
+        List<CandidateDataLoader.Candidate> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(candidates.get(in.readInt()));
+        }
+        return list;
+    }
+
+    // Length-prefixed UTF-8, -1 for null; writeUTF is limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
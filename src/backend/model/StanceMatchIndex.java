@@ -0,0 +1,400 @@
+package backend.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Bit-sliced index of candidate social stances used for quiz matching.
+ * For every (topic, stance) pair the index keeps one bitset with a bit per candidate,
+ * so scoring a full set of quiz answers is a handful of word operations per question
+ * instead of string comparisons per candidate.
+ */
+public class StanceMatchIndex {
+
+    /**
+     * Normalized stance values shared by quiz answers and candidate data
+     */
+    public enum Stance {
+        AGREE, DISAGREE, NEUTRAL;
+
+        /**
+         * Parse a quiz answer or a stance value from candidates.txt
+         * @return The stance, or null for "No Data" and unknown values
+         */
+        public static Stance parse(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            String lower = value.trim().toLowerCase();
+
+            // Check disagree first since it contains "agree"
+            if (lower.startsWith("disagree")) {
+                return DISAGREE;
+            } else if (lower.startsWith("agree")) {
+                return AGREE;
+            } else if (lower.startsWith("neutral") || lower.startsWith("nuetral")) {
+                return NEUTRAL;
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Per-candidate match counts for a set of answers
+     */
+    public interface MatchScores {
+        /**
+         * Match count for a single candidate
+         */
+        int countOf(int index);
+
+        /**
+         * Get the positions of the best matching candidates, highest count first.
+         * Ties keep data file order.
+         */
+        List<Integer> top(int k);
+    }
+
+    private static final String CANDIDATES_FILE = "resources/data/candidates.txt";
+
+    // Cached index for the current data snapshot
+    private static StanceMatchIndex cachedIndex;
+    private static long cachedLastModified = -1;
+    private static long cachedLength = -1;
+
+    private final List<Candidate> candidates;
+    private final int wordCount;
+    private final long lastWordMask;
+
+    // topic -> bitset words per Stance ordinal
+    private final Map<String, long[][]> topicBitsets = new HashMap<>();
+
+    /**
+     * Build an index over the given candidates
+     */
+    public StanceMatchIndex(List<CandidateDataLoader.Candidate> source) {
+        List<Candidate> list = new ArrayList<>(source.size());
+        int size = source.size();
+        this.wordCount = (size + 63) >>> 6;
+        this.lastWordMask = (size & 63) == 0 ? -1L : (1L << (size & 63)) - 1;
+
+        for (int i = 0; i < size; i++) {
+            CandidateDataLoader.Candidate candidate = source.get(i);
+            list.add(new Candidate(candidate.getName(), candidate.getParty()));
+
+            for (String stance : candidate.getSocialStances()) {
+                // Stances are stored as "Topic - Value"
+                int dashIndex = stance.lastIndexOf('-');
+                if (dashIndex <= 0) {
+                    continue;
+                }
+
+                String topic = stance.substring(0, dashIndex).trim();
+                Stance value = Stance.parse(stance.substring(dashIndex + 1));
+                if (value == null) {
+                    continue;
+                }
+
+                long[][] bitsets = topicBitsets.computeIfAbsent(topic,
+                        k -> new long[Stance.values().length][wordCount]);
+                bitsets[value.ordinal()][i >>> 6] |= 1L << i;
+            }
+        }
+
+        this.candidates = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get the index for the current contents of candidates.txt.
+     * The index is rebuilt only when the data file changes.
+     */
+    public static synchronized StanceMatchIndex getInstance() {
+        File file = new File(CANDIDATES_FILE);
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        if (cachedIndex == null || lastModified != cachedLastModified || length != cachedLength) {
+            cachedIndex = new StanceMatchIndex(CandidateDataLoader.loadCandidates());
+            cachedLastModified = lastModified;
+            cachedLength = length;
+            System.out.println("Built stance match index for " + cachedIndex.size() + " candidates");
+        }
+
+        return cachedIndex;
+    }
+
+    /**
+     * Number of candidates in the index
+     */
+    public int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Get the candidate at the given index position
+     */
+    public Candidate getCandidate(int index) {
+        return candidates.get(index);
+    }
+
+    /**
+     * Check whether a candidate holds the given stance on a topic
+     */
+    public boolean matches(int index, String topic, Stance stance) {
+        long[] bits = getBitset(topic, stance);
+        return bits != null && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Number of candidates holding the given stance on a topic
+     */
+    public int countWithStance(String topic, Stance stance) {
+        long[] bits = getBitset(topic, stance);
+        if (bits == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    long[] getBitset(String topic, Stance stance) {
+        if (topic == null || stance == null) {
+            return null;
+        }
+        long[][] bitsets = topicBitsets.get(topic);
+        return bitsets == null ? null : bitsets[stance.ordinal()];
+    }
+
+    /**
+     * Score a set of answers against every candidate.
+     * Entries with a null topic or stance are skipped.
+     *
+     * @param topics Stance topic for each answered question
+     * @param answers Answer given for each question
+     * @return Per-candidate match counts in bit-sliced form
+     */
+    public Scores score(List<String> topics, List<Stance> answers) {
+        int answered = Math.min(topics.size(), answers.size());
+        int planeCount = Math.max(1, 32 - Integer.numberOfLeadingZeros(answered));
+        long[][] planes = new long[planeCount][wordCount];
+
+        for (int q = 0; q < answered; q++) {
+            long[] bits = getBitset(topics.get(q), answers.get(q));
+            if (bits == null) {
+                continue;
+            }
+
+            // Ripple-carry add the question's bitset into the counter planes
+            for (int w = 0; w < wordCount; w++) {
+                long carry = bits[w];
+                for (int p = 0; p < planeCount && carry != 0; p++) {
+                    long next = planes[p][w] & carry;
+                    planes[p][w] ^= carry;
+                    carry = next;
+                }
+            }
+        }
+
+        return new Scores(planes, answered);
+    }
+
+    /**
+     * Per-candidate match counts stored as bit planes, one bit of the count per plane
+     */
+    public class Scores implements MatchScores {
+        private final long[][] planes;
+        private final int maxCount;
+
+        private Scores(long[][] planes, int maxCount) {
+            this.planes = planes;
+            this.maxCount = maxCount;
+        }
+
+        @Override
+        public int countOf(int index) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            int count = 0;
+            for (int p = 0; p < planes.length; p++) {
+                if ((planes[p][word] & bit) != 0) {
+                    count |= 1 << p;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Mask word of candidates whose count is at least the threshold
+         */
+        private long atLeast(int threshold, int word) {
+            long greater = 0;
+            long equal = word == wordCount - 1 ? lastWordMask : -1L;
+
+            // Compare from the most significant plane down
+            for (int p = planes.length - 1; p >= 0; p--) {
+                long plane = planes[p][word];
+                if (((threshold >>> p) & 1) != 0) {
+                    equal &= plane;
+                } else {
+                    greater |= equal & plane;
+                    equal &= ~plane;
+                }
+            }
+
+            return greater | equal;
+        }
+
+        /**
+         * Number of candidates whose count is at least the threshold
+         */
+        public int countAtLeast(int threshold) {
+            if (threshold > maxCount) {
+                return 0;
+            }
+
+            int total = 0;
+            for (int w = 0; w < wordCount; w++) {
+                total += Long.bitCount(atLeast(threshold, w));
+            }
+            return total;
+        }
+
+        @Override
+        public List<Integer> top(int k) {
+            List<Integer> result = new ArrayList<>();
+            if (k <= 0 || wordCount == 0) {
+                return result;
+            }
+
+            // Find the highest threshold that still admits k candidates
+            int threshold = maxCount;
+            while (threshold > 0 && countAtLeast(threshold) < k) {
+                threshold--;
+            }
+
+            // Keep the k best among candidates at or above the threshold
+            PriorityQueue<int[]> heap = createTopHeap(k);
+            for (int w = 0; w < wordCount; w++) {
+                long mask = atLeast(threshold, w);
+                while (mask != 0) {
+                    int index = (w << 6) + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    offerToHeap(heap, k, index, countOf(index));
+                }
+            }
+
+            return drainHeap(heap);
+        }
+    }
+
+    /**
+     * Create running scores that are updated one answer at a time
+     */
+    public RunningScores newRunningScores() {
+        return new RunningScores();
+    }
+
+    /**
+     * Match counts kept up to date as answers come in.
+     * Each answer costs one pass over the matching candidates' bits.
+     */
+    public class RunningScores implements MatchScores {
+        private final int[] counts = new int[candidates.size()];
+        private int answered = 0;
+
+        /**
+         * Add one answered question to the running counts
+         */
+        public void addAnswer(String topic, Stance stance) {
+            answered++;
+
+            long[] bits = getBitset(topic, stance);
+            if (bits == null) {
+                return;
+            }
+
+            for (int w = 0; w < wordCount; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    counts[(w << 6) + Long.numberOfTrailingZeros(word)]++;
+                    word &= word - 1;
+                }
+            }
+        }
+
+        /**
+         * Clear all answers
+         */
+        public void reset() {
+            Arrays.fill(counts, 0);
+            answered = 0;
+        }
+
+        /**
+         * Number of answers added so far
+         */
+        public int getAnsweredCount() {
+            return answered;
+        }
+
+        /**
+         * Index the scores were computed against
+         */
+        public StanceMatchIndex getIndex() {
+            return StanceMatchIndex.this;
+        }
+
+        @Override
+        public int countOf(int index) {
+            return counts[index];
+        }
+
+        @Override
+        public List<Integer> top(int k) {
+            PriorityQueue<int[]> heap = createTopHeap(k);
+            if (k > 0) {
+                for (int i = 0; i < counts.length; i++) {
+                    offerToHeap(heap, k, i, counts[i]);
+                }
+            }
+            return drainHeap(heap);
+        }
+    }
+
+    // Min-heap on count, evicting later candidates first on ties
+    private static PriorityQueue<int[]> createTopHeap(int k) {
+        return new PriorityQueue<>(Math.max(1, k), (a, b) ->
+                a[1] != b[1] ? Integer.compare(a[1], b[1]) : Integer.compare(b[0], a[0]));
+    }
+
+    private static void offerToHeap(PriorityQueue<int[]> heap, int k, int index, int count) {
+        int[] entry = {index, count};
+        if (heap.size() < k) {
+            heap.add(entry);
+        } else if (heap.comparator().compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private static List<Integer> drainHeap(PriorityQueue<int[]> heap) {
+        List<Integer> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll()[0]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package backend.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import util.KeywordAutomaton;
+import util.ResourceHelper;
+import util.ResourcePack;
+
+/**
+ * Resolves quiz questions to candidate stance topics.
+ * Keywords are loaded from stancetopics.txt and compiled into a single
+ * Aho-Corasick automaton, so each question is resolved in one pass over its text.
+ */
+public class StanceTopicDictionary {
+
+    private static final String DICTIONARY_FILE = "stancetopics.txt";
+
+    private static StanceTopicDictionary instance;
+
+    private final List<String> topics = new ArrayList<>();
+    private final KeywordAutomaton automaton = new KeywordAutomaton();
+
+    private StanceTopicDictionary(File file) {
+        try (BufferedReader reader = ResourcePack.openReader(file)) {
+            String line;
+            int topicIndex = -1;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+
+                // Skip comments and empty lines
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                if (line.startsWith("[") && line.endsWith("]")) {
+                    topics.add(line.substring(1, line.length() - 1).trim());
+                    topicIndex = topics.size() - 1;
+                } else if (topicIndex >= 0) {
+                    automaton.addKeyword(line, topicIndex);
+                }
+            }
+            System.out.println("Loaded " + topics.size() + " stance topics from " + file.getPath());
+        } catch (IOException e) {
+            System.err.println("Error loading stance topic dictionary: " + e.getMessage());
+        }
+
+        automaton.build();
+    }
+
+    /**
+     * Get the shared dictionary, loading it on first use
+     */
+    public static synchronized StanceTopicDictionary getInstance() {
+        if (instance == null) {
+            instance = new StanceTopicDictionary(ResourceHelper.getDataFile(DICTIONARY_FILE));
+        }
+        return instance;
+    }
+
+    /**
+     * Get all topics in dictionary order
+     */
+    public List<String> getTopics() {
+        return Collections.unmodifiableList(topics);
+    }
+
+    /**
+     * Resolve a question to its stance topic.
+     * The longest matching keyword wins; ties go to the topic listed first.
+     *
+     * @param question The question text
+     * @return The stance topic, or null if no keyword matches
+     */
+    public String resolveTopic(String question) {
+        // best[0] = topic index, best[1] = keyword length
+        int[] best = {-1, 0};
+        automaton.search(question, (value, keywordLength, endIndex) -> {
+            if (keywordLength > best[1] || (keywordLength == best[1] && value < best[0])) {
+                best[0] = value;
+                best[1] = keywordLength;
+            }
+        });
+
+        return best[0] >= 0 ? topics.get(best[0]) : null;
+    }
+}
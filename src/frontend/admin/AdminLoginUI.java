@@ -12,6 +12,7 @@ import java.awt.font.TextAttribute;
 import java.awt.geom.RoundRectangle2D;
 import java.util.Map;
 import java.util.HashMap;
+import util.FontRegistry;
 
 public class AdminLoginUI extends JFrame {
     private BufferedImage backdropImage;
@@ -210,7 +211,7 @@ public class AdminLoginUI extends JFrame {
         }
         
         field.setForeground(placeholderColor);
-        field.setFont(interRegular.deriveFont(16f));
+        field.setFont(FontRegistry.derive(interRegular, 16f));
         field.setOpaque(false);
         field.setBorder(BorderFactory.createEmptyBorder(0, 20, 0, 20));
         
@@ -275,8 +276,7 @@ public class AdminLoginUI extends JFrame {
             // Load Inter-Black font
             File interBlackFile = new File("lib/fonts/Inter_18pt-Black.ttf");
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 System.err.println("Inter-Black font not found, falling back to system font");
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
@@ -285,8 +285,7 @@ public class AdminLoginUI extends JFrame {
             // Load Inter-Regular font
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 System.err.println("Inter-Regular font not found, falling back to system font");
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
@@ -295,8 +294,7 @@ public class AdminLoginUI extends JFrame {
             // Load Inter-SemiBold font
             File interSemiBoldFile = new File("lib/fonts/Inter_18pt-SemiBold.ttf");
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 System.err.println("Inter-SemiBold font not found, falling back to system font");
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
@@ -504,7 +502,7 @@ public class AdminLoginUI extends JFrame {
         if (interSemiBold != null) {
             Map<TextAttribute, Object> attributes = new HashMap<>();
             attributes.put(TextAttribute.TRACKING, -0.05);
-            Font adminFont = interSemiBold.deriveFont(16f).deriveFont(attributes);
+            Font adminFont = FontRegistry.derive(interSemiBold, 16f).deriveFont(attributes);
             button.setFont(adminFont);
         } else {
             button.setFont(new Font("Sans-Serif", Font.BOLD, 16));
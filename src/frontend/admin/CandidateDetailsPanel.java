@@ -2,17 +2,23 @@ package frontend.admin;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import util.FontRegistry;
+import util.PhotoImporter;
+import util.ThumbnailCache;
 
 /**
  * A simplified rectangle component for the admin panel.
@@ -90,6 +96,17 @@ public class CandidateDetailsPanel extends JPanel {
     // Position dropdown reference
     private PositionsDropdown positionsDropdown;
     
+    // Candidate photo
+    private static final String DEFAULT_IMAGE_PATH = "resources/images/candidates/default.png";
+    private static final int PHOTO_PREVIEW_SIZE = 120;
+    private JPanel imagePreviewBox;
+    private String candidateImagePath;
+    private BufferedImage photoPreview;
+    private Future<?> pendingPhotoImport;
+    
+    // Bumped whenever the shown photo changes, so late import results are dropped
+    private int photoRequestId = 0;
+    
     /**
      * Creates a new CandidateDetailsPanel as a simple rectangle
      */
@@ -130,32 +147,26 @@ public class CandidateDetailsPanel extends JPanel {
             File interSemiBoldFile = new File("lib/fonts/Inter_18pt-SemiBold.ttf");
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 30);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 13);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.BOLD, 13);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 13);
             }
@@ -244,7 +255,7 @@ public class CandidateDetailsPanel extends JPanel {
         nameLabel.setBounds(fieldsX, currentY, fieldsWidth, labelHeight);
         nameLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         nameLabel.setFont(interSemiBold != null ? 
-                        interSemiBold.deriveFont(15f) : 
+                        FontRegistry.derive(interSemiBold, 15f) : 
                         new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(nameLabel);
         
@@ -262,7 +273,7 @@ public class CandidateDetailsPanel extends JPanel {
         ageLabel.setBounds(fieldsX, currentY, fieldsWidth / 2 - 5, labelHeight);
         ageLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         ageLabel.setFont(interSemiBold != null ? 
-                       interSemiBold.deriveFont(15f) : 
+                       FontRegistry.derive(interSemiBold, 15f) : 
                        new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(ageLabel);
         
@@ -271,7 +282,7 @@ public class CandidateDetailsPanel extends JPanel {
         regionLabel.setBounds(fieldsX + fieldsWidth / 2 + 5, currentY, fieldsWidth / 2 - 5, labelHeight);
         regionLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         regionLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(15f) : 
+                          FontRegistry.derive(interSemiBold, 15f) : 
                           new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(regionLabel);
         
@@ -298,7 +309,7 @@ public class CandidateDetailsPanel extends JPanel {
         partyLabel.setBounds(margin, currentY, halfWidth, labelHeight);
         partyLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         partyLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(15f) : 
+                          FontRegistry.derive(interSemiBold, 15f) : 
                           new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(partyLabel);
         
@@ -307,7 +318,7 @@ public class CandidateDetailsPanel extends JPanel {
         yearsLabel.setBounds(rightColumnX, currentY, halfWidth, labelHeight);
         yearsLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         yearsLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(15f) : 
+                          FontRegistry.derive(interSemiBold, 15f) : 
                           new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(yearsLabel);
         
@@ -332,7 +343,7 @@ public class CandidateDetailsPanel extends JPanel {
         sloganLabel.setBounds(margin, currentY, halfWidth, labelHeight);
         sloganLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         sloganLabel.setFont(interSemiBold != null ? 
-                           interSemiBold.deriveFont(15f) : 
+                           FontRegistry.derive(interSemiBold, 15f) : 
                            new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(sloganLabel);
         
@@ -341,7 +352,7 @@ public class CandidateDetailsPanel extends JPanel {
         positionsLabel.setBounds(rightColumnX, currentY, halfWidth, labelHeight);
         positionsLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         positionsLabel.setFont(interSemiBold != null ? 
-                              interSemiBold.deriveFont(15f) : 
+                              FontRegistry.derive(interSemiBold, 15f) : 
                               new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(positionsLabel);
         
@@ -432,7 +443,7 @@ public class CandidateDetailsPanel extends JPanel {
         page2HeaderLabel.setBounds(margin, currentY, totalWidth, 30);
         page2HeaderLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         page2HeaderLabel.setFont(interSemiBold != null ? 
-                                interSemiBold.deriveFont(18f) : 
+                                FontRegistry.derive(interSemiBold, 18f) : 
                                 new Font("Sans-Serif", Font.BOLD, 18));
         panel.add(page2HeaderLabel);
         
@@ -443,7 +454,7 @@ public class CandidateDetailsPanel extends JPanel {
         page2SubheaderLabel.setBounds(margin, currentY, totalWidth, 20);
         page2SubheaderLabel.setForeground(new Color(0x8D, 0x8D, 0x8D)); // Gray color
         page2SubheaderLabel.setFont(interRegular != null ? 
-                                   interRegular.deriveFont(14f) : 
+                                   FontRegistry.derive(interRegular, 14f) : 
                                    new Font("Sans-Serif", Font.PLAIN, 14));
         panel.add(page2SubheaderLabel);
         
@@ -454,7 +465,7 @@ public class CandidateDetailsPanel extends JPanel {
         issueHeader.setBounds(margin, currentY, totalWidth / 2, labelHeight);
         issueHeader.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         issueHeader.setFont(interSemiBold != null ? 
-                           interSemiBold.deriveFont(15f) : 
+                           FontRegistry.derive(interSemiBold, 15f) : 
                            new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(issueHeader);
         
@@ -462,7 +473,7 @@ public class CandidateDetailsPanel extends JPanel {
         stanceHeader.setBounds(margin + totalWidth / 2, currentY, totalWidth / 2, labelHeight);
         stanceHeader.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         stanceHeader.setFont(interSemiBold != null ? 
-                            interSemiBold.deriveFont(15f) : 
+                            FontRegistry.derive(interSemiBold, 15f) : 
                             new Font("Sans-Serif", Font.BOLD, 15));
         panel.add(stanceHeader);
         
@@ -594,7 +605,7 @@ public class CandidateDetailsPanel extends JPanel {
         
         // Set font
         if (interMedium != null) {
-            button.setFont(interMedium.deriveFont(13f));
+            button.setFont(FontRegistry.derive(interMedium, 13f));
         } else {
             button.setFont(new Font("Sans-Serif", Font.PLAIN, 13));
         }
@@ -663,14 +674,14 @@ public class CandidateDetailsPanel extends JPanel {
         float secondaryFontSize = mainFontSize * 7f/8f; // 7/8 of the original size (reduced by 1/8)
         
         mainLabel.setFont(interSemiBold != null ? 
-                        interSemiBold.deriveFont(mainFontSize) : 
+                        FontRegistry.derive(interSemiBold, mainFontSize) : 
                         new Font("Sans-Serif", Font.BOLD, (int)mainFontSize));
         
         // Create secondary label (comma separated)
         JLabel secondaryLabel = new JLabel(" (" + secondaryText + ")");
         secondaryLabel.setForeground(new Color(0xA1, 0xA1, 0xA1)); // #A1A1A1
         secondaryLabel.setFont(interRegular != null ? 
-                             interRegular.deriveFont(secondaryFontSize) : // 7/8 the size of main label
+                             FontRegistry.derive(interRegular, secondaryFontSize) : // 7/8 the size of main label
                              new Font("Sans-Serif", Font.PLAIN, (int)secondaryFontSize));
         
         // Add both labels to panel
@@ -728,7 +739,7 @@ public class CandidateDetailsPanel extends JPanel {
         // Set initial text properties
         textField.setForeground(Color.GRAY);
         textField.setFont(interRegular != null ? 
-                       interRegular.deriveFont(13f) : 
+                       FontRegistry.derive(interRegular, 13f) : 
                        new Font("Sans-Serif", Font.PLAIN, 13));
         textField.setOpaque(false);
         textField.setBorder(new EmptyBorder(0, 10, 0, 10)); // Add left/right padding
@@ -802,7 +813,7 @@ public class CandidateDetailsPanel extends JPanel {
         
         // Use Inter SemiBold font if available
         if (interSemiBold != null) {
-            button.setFont(interSemiBold.deriveFont(14f));
+            button.setFont(FontRegistry.derive(interSemiBold, 14f));
         } else {
             button.setFont(new Font("Sans-Serif", Font.BOLD, 14));
         }
@@ -903,7 +914,7 @@ public class CandidateDetailsPanel extends JPanel {
         
         // Use Inter-Black font if available, otherwise fall back to Sans-Serif Bold
         if (interBlack != null) {
-            g2d.setFont(interBlack.deriveFont(30f));
+            g2d.setFont(FontRegistry.derive(interBlack, 30f));
         } else {
             g2d.setFont(new Font("Sans-Serif", Font.BOLD, 30));
         }
@@ -1018,7 +1029,7 @@ public class CandidateDetailsPanel extends JPanel {
                     
                     // Use provided font or fall back
                     Font font = regularFont != null ? 
-                        regularFont.deriveFont(13f) : 
+                        FontRegistry.derive(regularFont, 13f) : 
                         new Font("Sans-Serif", Font.PLAIN, 13);
                     g2d.setFont(font);
                     
@@ -1208,7 +1219,7 @@ public class CandidateDetailsPanel extends JPanel {
             
             JLabel label = new JLabel(region);
             if (regularFont != null) {
-                label.setFont(regularFont.deriveFont(13f));
+                label.setFont(FontRegistry.derive(regularFont, 13f));
             } else {
                 label.setFont(new Font("Sans-Serif", Font.PLAIN, 13));
             }
@@ -1391,7 +1402,7 @@ public class CandidateDetailsPanel extends JPanel {
                     
                     // Use provided font or fall back
                     Font font = regularFont != null ? 
-                        regularFont.deriveFont(13f) : 
+                        FontRegistry.derive(regularFont, 13f) : 
                         new Font("Sans-Serif", Font.PLAIN, 13);
                     g2d.setFont(font);
                     
@@ -1581,7 +1592,7 @@ public class CandidateDetailsPanel extends JPanel {
             
             JLabel label = new JLabel(position);
             if (regularFont != null) {
-                label.setFont(regularFont.deriveFont(13f));
+                label.setFont(FontRegistry.derive(regularFont, 13f));
             } else {
                 label.setFont(new Font("Sans-Serif", Font.PLAIN, 13));
             }
@@ -1690,6 +1701,24 @@ public class CandidateDetailsPanel extends JPanel {
                 g2d.setStroke(new BasicStroke(1));
                 g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 8, 8);
                 
+                // Show the imported photo, cropped to fill the box
+                if (photoPreview != null) {
+                    Shape oldClip = g2d.getClip();
+                    g2d.clip(new RoundRectangle2D.Float(0, 0, getWidth(), getHeight(), 8, 8));
+                    double scale = Math.max((double) getWidth() / photoPreview.getWidth(),
+                                            (double) getHeight() / photoPreview.getHeight());
+                    int scaledWidth = (int) Math.ceil(photoPreview.getWidth() * scale);
+                    int scaledHeight = (int) Math.ceil(photoPreview.getHeight() * scale);
+                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    g2d.drawImage(photoPreview, (getWidth() - scaledWidth) / 2, (getHeight() - scaledHeight) / 2,
+                                  scaledWidth, scaledHeight, null);
+                    g2d.setClip(oldClip);
+                    g2d.setColor(searchBorderColor);
+                    g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 8, 8);
+                    g2d.dispose();
+                    return;
+                }
+                
                 // Calculate center position
                 int centerX = getWidth() / 2;
                 int centerY = getHeight() / 2 - 10; // Shift up slightly to make room for text
@@ -1719,11 +1748,11 @@ public class CandidateDetailsPanel extends JPanel {
                 // Draw "Add Photo" text below plus icon - 50% smaller and color #475569
                 // Always use Inter-SemiBold font if available, otherwise fallback
                 if (interSemiBold != null) {
-                    g2d.setFont(interSemiBold.deriveFont(7f));
+                    g2d.setFont(FontRegistry.derive(interSemiBold, 7f));
                 } else {
                     g2d.setFont(new Font("Sans-Serif", Font.BOLD, 7));
                 }
-                String labelText = "Add Photo";
+                String labelText = pendingPhotoImport != null ? "Processing..." : "Add Photo";
                 FontMetrics metrics = g2d.getFontMetrics();
                 int textWidth = metrics.stringWidth(labelText);
                 g2d.drawString(labelText, 
@@ -1746,12 +1775,11 @@ public class CandidateDetailsPanel extends JPanel {
         imageBox.setOpaque(false);
         imageBox.setCursor(new Cursor(Cursor.HAND_CURSOR));
         
-        // Add mouse listener to simulate image selection
+        // Add mouse listener to choose a photo
         imageBox.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
-                System.out.println("Image box clicked - would open file chooser here");
-                // Would implement file chooser here in a real application
+                choosePhoto();
             }
             
             @Override
@@ -1767,9 +1795,80 @@ public class CandidateDetailsPanel extends JPanel {
             }
         });
         
+        imagePreviewBox = imageBox;
         return imageBox;
     }
     
+    /**
+     * Let the admin pick a photo and import it in the background
+     */
+    private void choosePhoto() {
+        if (pendingPhotoImport != null || !nameField.isEnabled()) {
+            return;
+        }
+        
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Select Candidate Photo");
+        chooser.setAcceptAllFileFilterUsed(false);
+        chooser.setFileFilter(new FileNameExtensionFilter("Images (JPG, PNG)", "jpg", "jpeg", "png"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        File source = chooser.getSelectedFile();
+        final int requestId = ++photoRequestId;
+        pendingPhotoImport = PhotoImporter.importPhotoAsync(source, getFieldValue(nameField, "Enter candidate name"), path -> {
+            // Ignore an import that finished after another candidate was loaded
+            if (requestId != photoRequestId) {
+                return;
+            }
+            pendingPhotoImport = null;
+            if (path == null) {
+                AdminPanelUI.showNotification(this, "Could not import " + source.getName(), "Error", "error");
+            } else {
+                candidateImagePath = path;
+                showPhotoPreview(path, requestId);
+            }
+            imagePreviewBox.repaint();
+        });
+        imagePreviewBox.repaint();
+    }
+    
+    /**
+     * Show a candidate's stored photo in the preview box
+     */
+    private void setCandidatePhoto(String path) {
+        // A running import can't be stopped; the new request id makes it drop its result
+        if (pendingPhotoImport != null) {
+            pendingPhotoImport.cancel(false);
+            pendingPhotoImport = null;
+        }
+        final int requestId = ++photoRequestId;
+        candidateImagePath = path;
+        photoPreview = null;
+        if (imagePreviewBox != null) {
+            imagePreviewBox.repaint();
+        }
+        if (path == null || path.equals(DEFAULT_IMAGE_PATH)) {
+            return;
+        }
+        
+        showPhotoPreview(path, requestId);
+    }
+    
+    /**
+     * Load the preview thumbnail of a photo in the background
+     */
+    private void showPhotoPreview(String path, int requestId) {
+        ThumbnailCache.getInstance().getThumbnailAsync(path, PHOTO_PREVIEW_SIZE, thumbnail -> {
+            // Ignore a late result for a candidate no longer shown
+            if (requestId == photoRequestId && path.equals(candidateImagePath)) {
+                photoPreview = thumbnail;
+                imagePreviewBox.repaint();
+            }
+        });
+    }
+    
     /**
      * Custom JToggleButton for social stance selection
      */
@@ -1790,7 +1889,7 @@ public class CandidateDetailsPanel extends JPanel {
             
             // Set font
             if (interMedium != null) {
-                setFont(interMedium.deriveFont(12f));
+                setFont(FontRegistry.derive(interMedium, 12f));
             } else {
                 setFont(new Font("Sans-Serif", Font.PLAIN, 12));
             }
@@ -1907,6 +2006,12 @@ public class CandidateDetailsPanel extends JPanel {
             return;
         }
         
+        // Wait for a photo that is still being imported
+        if (pendingPhotoImport != null) {
+            AdminPanelUI.showNotification(this, "Please wait until the photo has been processed", "Photo Processing", "warning");
+            return;
+        }
+        
         // Create a map to store all candidate data
         Map<String, String> candidateData = new HashMap<>();
         
@@ -1926,10 +2031,8 @@ public class CandidateDetailsPanel extends JPanel {
         // Add social stances as a formatted string
         candidateData.put("Social Stances", CandidateProfiles.formatSocialStances(stances));
         
-        // For now, set a default image path
-        if (!candidateData.containsKey("Image") || candidateData.get("Image").isEmpty()) {
-            candidateData.put("Image", "resources/images/candidates/default.png");
-        }
+        // Use the imported photo, or the default image if none was chosen
+        candidateData.put("Image", candidateImagePath != null ? candidateImagePath : DEFAULT_IMAGE_PATH);
         
         // Save the candidate data
         boolean success;
@@ -2080,6 +2183,9 @@ public class CandidateDetailsPanel extends JPanel {
         selectedRegion = "Select Region";
         selectedPosition = "Select Position";
         
+        // Reset photo
+        setCandidatePhoto(null);
+        
         // Reset edit mode to false since we're creating a new candidate
         isEditMode = false;
         editCandidateIndex = -1;
@@ -2120,6 +2226,9 @@ public class CandidateDetailsPanel extends JPanel {
         isEditMode = true;
         editCandidateIndex = index;
         
+        // Show the stored photo
+        setCandidatePhoto(candidateData.get("Image"));
+        
         // Set form field values
         setFieldText(nameField, candidateData.get("Name"));
         setFieldText(ageField, candidateData.get("Age"));
@@ -2215,6 +2324,9 @@ public class CandidateDetailsPanel extends JPanel {
         isEditMode = false;
         editCandidateIndex = -1;
         
+        // Show the stored photo
+        setCandidatePhoto(candidateData.get("Image"));
+        
         // Set form field values
         setFieldText(nameField, candidateData.get("Name"));
         setFieldText(ageField, candidateData.get("Age"));
@@ -11,6 +11,9 @@ import javax.swing.JOptionPane;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.ScaledImageCache;
 
 /**
  * A simplified rectangle component for the admin panel.
@@ -128,25 +131,20 @@ public class CandidateDirectoryPanel extends JPanel {
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             File interBlackFile = new File("lib/fonts/Inter_18pt-Black.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 30);
             }
@@ -162,21 +160,8 @@ public class CandidateDirectoryPanel extends JPanel {
      * Load search icon and clear icon
      */
     private void loadIcons() {
-        try {
-            // Try to load the search icon
-            File searchFile = new File("resources/images/Candidate Search/search.png");
-            if (searchFile.exists()) {
-                searchIconImage = ImageIO.read(searchFile);
-            }
-            
-            // Load clear icon (x.png)
-            File clearFile = new File("resources/images/Candidate Search/x.png");
-            if (clearFile.exists()) {
-                clearIconImage = ImageIO.read(clearFile);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        searchIconImage = IconAtlas.getIcon("Candidate Search/search.png");
+        clearIconImage = IconAtlas.getIcon("Candidate Search/x.png");
     }
     
     /**
@@ -214,8 +199,8 @@ public class CandidateDirectoryPanel extends JPanel {
                     int iconWidth = (int)((double)searchIconImage.getWidth() / searchIconImage.getHeight() * iconHeight);
                     
                     // Draw icon on left side with padding
-                    g2d.drawImage(searchIconImage, 10, (getHeight() - iconHeight) / 2, 
-                                iconWidth, iconHeight, this);
+                    ScaledImageCache.getScaledIcon(searchIconImage, iconWidth, iconHeight)
+                            .paintIcon(this, g2d, 10, (getHeight() - iconHeight) / 2);
                 }
             }
         };
@@ -226,7 +211,7 @@ public class CandidateDirectoryPanel extends JPanel {
         // Create text field
         searchField = new JTextField("Search candidates...");
         searchField.setForeground(Color.GRAY);
-        searchField.setFont(interRegular.deriveFont(13f));
+        searchField.setFont(FontRegistry.derive(interRegular, 13f));
         searchField.setOpaque(false);
         searchField.setBorder(null);
         
@@ -246,8 +231,7 @@ public class CandidateDirectoryPanel extends JPanel {
             int clearIconWidth = (int)((double)clearIconImage.getWidth() / clearIconImage.getHeight() * clearIconHeight);
             
             // Create scaled icon
-            Image scaledImage = clearIconImage.getScaledInstance(clearIconWidth, clearIconHeight, Image.SCALE_SMOOTH);
-            clearIconLabel.setIcon(new ImageIcon(scaledImage));
+            clearIconLabel.setIcon(ScaledImageCache.getScaledIcon(clearIconImage, clearIconWidth, clearIconHeight));
             clearIconLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
             clearIconLabel.setVisible(false); // Initially hidden
             
@@ -393,7 +377,7 @@ public class CandidateDirectoryPanel extends JPanel {
                 
                 // Use available font
                 Font findFont = interRegular != null ? 
-                    interRegular.deriveFont(Font.BOLD, 13f) : 
+                    FontRegistry.derive(interRegular, Font.BOLD, 13f) : 
                     new Font("Sans-Serif", Font.BOLD, 13);
                 g2d.setFont(findFont);
                 
@@ -606,7 +590,7 @@ public class CandidateDirectoryPanel extends JPanel {
         
         // Use Inter SemiBold font if available
         if (interSemiBold != null) {
-            button.setFont(interSemiBold.deriveFont(14f));
+            button.setFont(FontRegistry.derive(interSemiBold, 14f));
         } else {
             button.setFont(new Font("Sans-Serif", Font.BOLD, 14));
         }
@@ -935,7 +919,7 @@ public class CandidateDirectoryPanel extends JPanel {
         // Draw header text with Inter-Black font and #475569 color
         g2d.setColor(headerTextColor);
         if (interBlack != null) {
-            g2d.setFont(interBlack.deriveFont(30f));
+            g2d.setFont(FontRegistry.derive(interBlack, 30f));
         } else {
             g2d.setFont(new Font("Sans-Serif", Font.BOLD, 28));
         }
@@ -956,7 +940,7 @@ public class CandidateDirectoryPanel extends JPanel {
         // Draw profile count text
         g2d.setColor(profileTextColor);
         if (interSemiBold != null) {
-            g2d.setFont(interSemiBold.deriveFont(16f));
+            g2d.setFont(FontRegistry.derive(interSemiBold, 16f));
         } else {
             g2d.setFont(new Font("Sans-Serif", Font.BOLD, 16));
         }
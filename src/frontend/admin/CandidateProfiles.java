@@ -3,6 +3,8 @@ package frontend.admin;
 import java.io.*;
 import java.util.*;
 
+import frontend.utils.WindowRegistry;
+
 /**
  * CandidateProfiles - A utility class for managing candidate profile data
  * Handles loading, saving, and modifying candidate information
@@ -218,6 +220,9 @@ public class CandidateProfiles {
             }
             
             writer.close();
+            
+            // Screens kept for reuse still show the old data
+            WindowRegistry.discardHidden();
             return true;
             
         } catch (IOException e) {
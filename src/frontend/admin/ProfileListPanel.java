@@ -14,6 +14,7 @@ import java.util.function.Consumer;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import javax.swing.RepaintManager;
+import util.FontRegistry;
 
 /**
  * A panel that displays a list of candidate profiles.
@@ -210,32 +211,26 @@ public class ProfileListPanel extends JPanel {
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             File interBoldFile = new File("lib/fonts/Inter_18pt-Bold.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBoldFile.exists()) {
-                interBold = Font.createFont(Font.TRUETYPE_FONT, interBoldFile);
-                ge.registerFont(interBold);
+                interBold = FontRegistry.getFont(interBoldFile);
             } else {
                 interBold = new Font("Sans-Serif", Font.BOLD, 12);
             }
@@ -471,7 +466,7 @@ public class ProfileListPanel extends JPanel {
                     g2d.setColor(new Color(0x64, 0x74, 0x8B));
                     String initials = getInitials(name);
                     g2d.setFont(interSemiBold != null ? 
-                              interSemiBold.deriveFont(14f) : 
+                              FontRegistry.derive(interSemiBold, 14f) : 
                               new Font("Sans-Serif", Font.BOLD, 14));
                     
                     FontMetrics fm = g2d.getFontMetrics();
@@ -513,7 +508,7 @@ public class ProfileListPanel extends JPanel {
         // Name label
         JLabel nameLabel = new JLabel(name);
         nameLabel.setFont(interSemiBold != null ? 
-                         interSemiBold.deriveFont(14f) : 
+                         FontRegistry.derive(interSemiBold, 14f) : 
                          new Font("Sans-Serif", Font.BOLD, 14));
         nameLabel.setForeground(new Color(0x0F, 0x17, 0x2A));
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -521,7 +516,7 @@ public class ProfileListPanel extends JPanel {
         // Position label
         JLabel positionLabel = new JLabel(position);
         positionLabel.setFont(interRegular != null ? 
-                            interRegular.deriveFont(12f) : 
+                            FontRegistry.derive(interRegular, 12f) : 
                             new Font("Sans-Serif", Font.PLAIN, 12));
         positionLabel.setForeground(labelColor);
         positionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -529,7 +524,7 @@ public class ProfileListPanel extends JPanel {
         // Party label
         JLabel partyLabel = new JLabel(party);
         partyLabel.setFont(interRegular != null ? 
-                          interRegular.deriveFont(11f) : 
+                          FontRegistry.derive(interRegular, 11f) : 
                           new Font("Sans-Serif", Font.PLAIN, 11));
         partyLabel.setForeground(new Color(0x94, 0xA3, 0xB8));
         partyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -704,7 +699,7 @@ public class ProfileListPanel extends JPanel {
         // Draw "profileList" label
         g2d.setColor(labelColor);
         if (interSemiBold != null) {
-            g2d.setFont(interSemiBold.deriveFont(14f));
+            g2d.setFont(FontRegistry.derive(interSemiBold, 14f));
         } else {
             g2d.setFont(new Font("Sans-Serif", Font.BOLD, 14));
         }
@@ -713,7 +708,7 @@ public class ProfileListPanel extends JPanel {
         // Draw placeholder text if there's no data
         if (!hasData) {
             if (interRegular != null) {
-                g2d.setFont(interRegular.deriveFont(12f));
+                g2d.setFont(FontRegistry.derive(interRegular, 12f));
             } else {
                 g2d.setFont(new Font("Sans-Serif", Font.PLAIN, 12));
             }
@@ -5,6 +5,7 @@ import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.util.HashMap;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * SocialIssuesPanel - A modular component for displaying and selecting social issue stances
@@ -113,7 +114,7 @@ public class SocialIssuesPanel extends JPanel {
         issueLabel.setBounds(0, 0, width / 2, rowHeight);
         issueLabel.setForeground(new Color(0x47, 0x55, 0x69)); // #475569
         issueLabel.setFont(regularFont != null ? 
-                         regularFont.deriveFont(14f) : 
+                         FontRegistry.derive(regularFont, 14f) : 
                          new Font("Sans-Serif", Font.PLAIN, 14));
         issueRow.add(issueLabel);
         
@@ -341,7 +342,7 @@ public class SocialIssuesPanel extends JPanel {
             
             // Set font
             if (mediumFont != null) {
-                setFont(mediumFont.deriveFont(12f));
+                setFont(FontRegistry.derive(mediumFont, 12f));
             } else {
                 setFont(new Font("Sans-Serif", Font.PLAIN, 12));
             }
@@ -382,7 +383,7 @@ public class SocialIssuesPanel extends JPanel {
                 
                 // Use a slightly bolder font for selected stance
                 if (mediumFont != null) {
-                    g2d.setFont(mediumFont.deriveFont(Font.BOLD, 12f));
+                    g2d.setFont(FontRegistry.derive(mediumFont, Font.BOLD, 12f));
                 } else {
                     g2d.setFont(new Font("Sans-Serif", Font.BOLD, 12));
                 }
@@ -14,7 +14,12 @@ import frontend.landingpage.LandingPageUI;
 import frontend.comparison.SearchCandidateCompare;
 import frontend.comparison.CompareSelection;
 import frontend.comparison.CandidateDataManager;
+import frontend.utils.WindowRegistry;
 import frontend.utils.WindowTransitionManager;
+import util.BackdropCache;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.ScaledImageCache;
 
 /**
  * Candidate Comparison UI for the Gabay application
@@ -68,6 +73,9 @@ public class CandidateComparisonUI extends JFrame {
     private SocialStancesCompare socialPanel;
     private JPanel currentContentPanel; // Currently displayed panel
     
+    // Incremented per compare click so a slower, older prefetch is ignored
+    private int compareRequestId = 0;
+    
     // Add a container for the content panels
     private JPanel comparisonContentContainer;
     
@@ -113,16 +121,8 @@ public class CandidateComparisonUI extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                // Fill the background with white
-                g.setColor(Color.WHITE);
-                g.fillRect(0, 0, getWidth(), getHeight());
-                
                 // Draw background image with reduced opacity if enabled
                 if (backgroundImage != null && showBackgroundImage) {
-                    Graphics2D g2d = (Graphics2D)g;
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
-                                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    
                     // Calculate backdrop position, adjusting for window scaling
                     double widthScaleFactor = Math.min(1.0, getWidth() / (double)initialWindowWidth);
                     double heightScaleFactor = Math.min(1.0, getHeight() / (double)initialWindowHeight);
@@ -136,15 +136,13 @@ public class CandidateComparisonUI extends JFrame {
                     int scaledWidth = (int)(BACKDROP_WIDTH * scaleFactor);
                     int scaledHeight = (int)(BACKDROP_HEIGHT * scaleFactor);
                     
-                    // Set the opacity to the value specified
-                    AlphaComposite alphaComposite = AlphaComposite.getInstance(
-                        AlphaComposite.SRC_OVER, backdropOpacity);
-                    g2d.setComposite(alphaComposite);
-                    
-                    g2d.drawImage(backgroundImage, imageX, imageY, scaledWidth, scaledHeight, this);
-                    
-                    // Reset composite for other components
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+                    // White fill and faded backdrop are pre-rendered once per window size
+                    BackdropCache.paint(this, g, backgroundImage, Color.WHITE,
+                            imageX, imageY, scaledWidth, scaledHeight, backdropOpacity);
+                } else {
+                    // Fill the background with white
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, getWidth(), getHeight());
                 }
                 
                 // Draw title text at specified position
@@ -185,7 +183,7 @@ public class CandidateComparisonUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    titleFont = titleFont.deriveFont(titleFontSize).deriveFont(attributes);
+                    titleFont = FontRegistry.derive(titleFont, titleFontSize).deriveFont(attributes);
                 } else {
                     titleFont = new Font("Sans-Serif", Font.BOLD, (int)(70 * widthScaleFactor));
                 }
@@ -205,7 +203,7 @@ public class CandidateComparisonUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    paragraphFont = paragraphFont.deriveFont(paragraphFontSize).deriveFont(attributes);
+                    paragraphFont = FontRegistry.derive(paragraphFont, paragraphFontSize).deriveFont(attributes);
                 } else {
                     paragraphFont = new Font("Sans-Serif", Font.PLAIN, (int)(18 * widthScaleFactor));
                 }
@@ -282,9 +280,7 @@ public class CandidateComparisonUI extends JFrame {
             int logoHeight = 40; // Height in pixels
             int logoWidth = (int)((double)headerLogoImage.getWidth() / headerLogoImage.getHeight() * logoHeight);
             
-            // Create scaled version of logo
-            Image scaledLogo = headerLogoImage.getScaledInstance(logoWidth, logoHeight, Image.SCALE_SMOOTH);
-            logoLabel.setIcon(new ImageIcon(scaledLogo));
+            logoLabel.setIcon(ScaledImageCache.getScaledIcon(headerLogoImage, logoWidth, logoHeight));
             
             // Make logo clickable to go back to landing page
             logoLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
@@ -293,7 +289,7 @@ public class CandidateComparisonUI extends JFrame {
                 public void mouseClicked(MouseEvent e) {
                     // Redirect to LandingPageUI with fade transition
                     System.out.println("Redirecting to Landing Page...");
-                    WindowTransitionManager.fadeTransition(CandidateComparisonUI.this, () -> new LandingPageUI());
+                    WindowTransitionManager.fadeTransition(CandidateComparisonUI.this, WindowRegistry.reuse(LandingPageUI.class, LandingPageUI::new));
                 }
                 
                 @Override
@@ -319,7 +315,7 @@ public class CandidateComparisonUI extends JFrame {
                 public void mouseClicked(MouseEvent e) {
                     // Redirect to LandingPageUI with fade transition
                     System.out.println("Redirecting to Landing Page...");
-                    WindowTransitionManager.fadeTransition(CandidateComparisonUI.this, () -> new LandingPageUI());
+                    WindowTransitionManager.fadeTransition(CandidateComparisonUI.this, WindowRegistry.reuse(LandingPageUI.class, LandingPageUI::new));
                 }
             });
         }
@@ -340,11 +336,11 @@ public class CandidateComparisonUI extends JFrame {
         
         // Calculate paragraph bottom position - for proper placement below the title
         FontMetrics titleMetrics = getFontMetrics(interBlack != null ? 
-                                                 interBlack.deriveFont(70f) : 
+                                                 FontRegistry.derive(interBlack, 70f) : 
                                                  new Font("Sans-Serif", Font.BOLD, 70));
         int titleHeight = titleMetrics.getHeight();
         FontMetrics paraMetrics = getFontMetrics(interSemiBold != null ? 
-                                                  interSemiBold.deriveFont(18f) : 
+                                                  FontRegistry.derive(interSemiBold, 18f) : 
                                                   new Font("Sans-Serif", Font.PLAIN, 18));
         int paraHeight = paraMetrics.getHeight() * 3; // Approximate for 3 lines
         int topMargin = 270; // Position below title content with some margin
@@ -445,39 +441,32 @@ public class CandidateComparisonUI extends JFrame {
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBoldFile.exists()) {
-                interBold = Font.createFont(Font.TRUETYPE_FONT, interBoldFile);
-                ge.registerFont(interBold);
+                interBold = FontRegistry.getFont(interBoldFile);
             } else {
                 interBold = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
@@ -494,15 +483,8 @@ public class CandidateComparisonUI extends JFrame {
     }
     
     private void loadBackgroundImage() {
-        try {
-            File imageFile = new File("resources/images/Landing-Backdrop.png");
-            if (imageFile.exists()) {
-                backgroundImage = ImageIO.read(imageFile);
-            } else {
-                createFallbackImage();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        backgroundImage = BackdropCache.getBackdropImage();
+        if (backgroundImage == null) {
             createFallbackImage();
         }
     }
@@ -520,46 +502,10 @@ public class CandidateComparisonUI extends JFrame {
     }
     
     private void loadHeaderLogoImage() {
-        try {
-            // Try to load the header logo image from the specific path
-            File logoFile = new File("resources/images/Candidate Search/HeaderLogo.png");
-            if (logoFile.exists()) {
-                headerLogoImage = ImageIO.read(logoFile);
-                System.out.println("Header logo loaded successfully from: " + logoFile.getAbsolutePath());
-            } else {
-                System.out.println("Header logo file not found at: " + logoFile.getAbsolutePath());
-                
-                // Try alternative locations as backup
-                String[] alternativePaths = {
-                    "resources/images/HeaderLogo.png",
-                    "HeaderLogo.png",
-                    "images/HeaderLogo.png",
-                    "images/Candidate Search/HeaderLogo.png",
-                    "../resources/images/Candidate Search/HeaderLogo.png"
-                };
-                
-                for (String path : alternativePaths) {
-                    File altFile = new File(path);
-                    if (altFile.exists()) {
-                        headerLogoImage = ImageIO.read(altFile);
-                        System.out.println("Header logo loaded from alternative path: " + altFile.getAbsolutePath());
-                        break;
-                    }
-                }
-            }
-            
-            // If still couldn't find the logo, create a blank image
-            if (headerLogoImage == null) {
-                headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g = headerLogoImage.createGraphics();
-                g.setColor(new Color(0, 0, 0, 0)); // Transparent
-                g.fillRect(0, 0, 150, 40);
-                g.dispose();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            
-            // Create blank image even after exception
+        headerLogoImage = IconAtlas.getIcon("Candidate Search/HeaderLogo.png");
+        
+        // If still couldn't find the logo, create a blank image
+        if (headerLogoImage == null) {
             headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
             Graphics2D g = headerLogoImage.createGraphics();
             g.setColor(new Color(0, 0, 0, 0)); // Transparent
@@ -582,24 +528,28 @@ public class CandidateComparisonUI extends JFrame {
         
         // Set the candidate names in all comparison panels
         if (!candidates[0].isEmpty() && !candidates[1].isEmpty()) {
-            // Load candidate images if available
-            BufferedImage leftImage = loadCandidateImage(candidates[0]);
-            BufferedImage rightImage = loadCandidateImage(candidates[1]);
-            
-            if (profilePanel != null) {
-                profilePanel.setLeftCandidate(candidates[0], leftImage);
-                profilePanel.setRightCandidate(candidates[1], rightImage);
-            }
-            
-            if (advocaciesPanel != null) {
-                advocaciesPanel.setLeftCandidate(candidates[0], leftImage);
-                advocaciesPanel.setRightCandidate(candidates[1], rightImage);
-            }
-            
-            if (socialPanel != null) {
-                socialPanel.setLeftCandidate(candidates[0], leftImage);
-                socialPanel.setRightCandidate(candidates[1], rightImage);
-            }
+            // Load both candidates' data and images in parallel off the EDT
+            final int requestId = ++compareRequestId;
+            CandidateDataManager.prefetchComparison(candidates[0], candidates[1], (left, right) -> {
+                if (requestId != compareRequestId) {
+                    return; // A newer comparison was requested meanwhile
+                }
+                
+                if (profilePanel != null) {
+                    profilePanel.setLeftCandidate(left.name, left.image);
+                    profilePanel.setRightCandidate(right.name, right.image);
+                }
+                
+                if (advocaciesPanel != null) {
+                    advocaciesPanel.setLeftCandidate(left.name, left.image);
+                    advocaciesPanel.setRightCandidate(right.name, right.image);
+                }
+                
+                if (socialPanel != null) {
+                    socialPanel.setLeftCandidate(left.name, left.image);
+                    socialPanel.setRightCandidate(right.name, right.image);
+                }
+            });
         } else {
             // Show error message if candidates are not selected
             JOptionPane.showMessageDialog(this, 
@@ -609,16 +559,6 @@ public class CandidateComparisonUI extends JFrame {
         }
     }
     
-    /**
-     * Load a candidate's image from the data
-     * @param candidateName Name of the candidate
-     * @return BufferedImage of candidate or null if not found
-     */
-    private BufferedImage loadCandidateImage(String candidateName) {
-        // Use the CandidateDataManager to get the candidate image
-        return CandidateDataManager.getCandidateImage(candidateName);
-    }
-    
     /**
      * Creates a horizontal divider line
      */
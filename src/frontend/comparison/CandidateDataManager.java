@@ -1,53 +1,60 @@
 package frontend.comparison;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import javax.swing.SwingUtilities;
+
+import backend.model.CandidateIndex;
+import util.ImageCache;
 
 /**
  * Utility class to manage candidate data for comparison panels
  */
 public class CandidateDataManager {
-    // Path to candidates.txt
-    private static final String CANDIDATES_FILE = "resources/data/candidates.txt";
-    
-    // Path to default profile image
-    private static final String DEFAULT_PROFILE_IMAGE = "resources/images/defaultprofpic.png";
-    
     // Cache of candidate data
     private static final Map<String, Map<String, String>> candidateCache = new HashMap<>();
     
-    // Cache for images to avoid repeated loading
-    private static final Map<String, BufferedImage> imageCache = new HashMap<>();
+    // Social stances list from file, replaced as a whole so callers never see it change
+    private static List<String> socialStancesList = Collections.emptyList();
     
-    // Social stances list from file
-    private static final List<String> socialStancesList = new ArrayList<>();
+    // Recently prefetched candidates kept, enough for a few hovered suggestions on each side
+    private static final int MAX_PREFETCHED = 8;
     
-    // Default profile image (loaded once)
-    private static BufferedImage defaultProfileImage;
-    
-    // Static initializer to load default profile image
-    static {
-        try {
-            File defaultImageFile = new File(DEFAULT_PROFILE_IMAGE);
-            if (defaultImageFile.exists()) {
-                defaultProfileImage = ImageIO.read(defaultImageFile);
-                System.out.println("Loaded default profile image: " + DEFAULT_PROFILE_IMAGE);
-            } else {
-                System.err.println("Default profile image not found: " + DEFAULT_PROFILE_IMAGE);
-                // Create a blank image as fallback
-                defaultProfileImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+    // Prefetches in progress or done, so hovering a suggestion and then selecting it loads once
+    private static final Map<String, CompletableFuture<CandidateRecord>> prefetched =
+        new LinkedHashMap<String, CompletableFuture<CandidateRecord>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<CandidateRecord>> eldest) {
+                return size() > MAX_PREFETCHED;
             }
-        } catch (IOException e) {
-            System.err.println("Error loading default profile image: " + e.getMessage());
-            defaultProfileImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        };
+    
+    // One thread per compared candidate
+    private static final ExecutorService prefetchExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "candidate-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * A candidate's profile image, loaded off the EDT once their record is in the cache
+     */
+    public static class CandidateRecord {
+        public final String name;
+        public final BufferedImage image;
+        
+        CandidateRecord(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
         }
     }
     
@@ -56,7 +63,7 @@ public class CandidateDataManager {
      * @param name Candidate's full name
      * @return Map of candidate data attributes, or null if not found
      */
-    public static Map<String, String> getCandidateByName(String name) {
+    public static synchronized Map<String, String> getCandidateByName(String name) {
         // Check if we have this candidate in cache
         if (candidateCache.containsKey(name)) {
             return candidateCache.get(name);
@@ -71,9 +78,9 @@ public class CandidateDataManager {
     
     /**
      * Get all social stance topics 
-     * @return List of all social stance topics found in the data
+     * @return Unmodifiable list of all social stance topics found in the data
      */
-    public static List<String> getSocialStanceTopics() {
+    public static synchronized List<String> getSocialStanceTopics() {
         if (socialStancesList.isEmpty()) {
             loadAllCandidates(); // This will populate the socialStancesList
         }
@@ -81,125 +88,16 @@ public class CandidateDataManager {
     }
     
     /**
-     * Load all candidates from file and cache them
+     * Load all candidates from the shared candidate index and cache them
      */
     private static void loadAllCandidates() {
-        try {
-            File file = new File(CANDIDATES_FILE);
-            if (!file.exists()) {
-                System.err.println("Candidates file not found: " + CANDIDATES_FILE);
-                return;
-            }
-            
-            // Debug message
-            System.out.println("Loading candidates from file: " + CANDIDATES_FILE);
-            
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            String line;
-            Map<String, String> currentCandidate = null;
-            String currentName = null;
-            
-            while ((line = reader.readLine()) != null) {
-                // Empty line indicates end of current candidate record
-                if (line.trim().isEmpty()) {
-                    if (currentCandidate != null && currentName != null) {
-                        candidateCache.put(currentName, currentCandidate);
-                        currentCandidate = null;
-                        currentName = null;
-                    }
-                    continue;
-                }
-                
-                // Start of a new candidate record
-                if (line.startsWith("Name:")) {
-                    // Save previous candidate if exists
-                    if (currentCandidate != null && currentName != null) {
-                        candidateCache.put(currentName, currentCandidate);
-                    }
-                    
-                    // Start new candidate
-                    currentName = line.substring(6).trim();
-                    currentCandidate = new HashMap<>();
-                    currentCandidate.put("Name", currentName);
-                    continue;
-                }
-                
-                // Process other attributes
-                if (currentCandidate != null && line.contains(":")) {
-                    String[] parts = line.split(":", 2);
-                    if (parts.length == 2) {
-                        String key = parts[0].trim();
-                        String value = parts[1].trim();
-                        
-                        // Handle special case for social stances
-                        if (key.equals("Social Stance")) {
-                            // Format is "Social Stance: Topic - Stance"
-                            String socialStanceContent = value.trim();
-                            
-                            // Check if this has the form "Topic - Stance"
-                            if (socialStanceContent.contains(" - ")) {
-                                String[] stanceParts = socialStanceContent.split(" - ", 2);
-                                if (stanceParts.length == 2) {
-                                    String topic = stanceParts[0].trim();
-                                    String stance = stanceParts[1].trim();
-                                    
-                                    // Store as "Social Stance: Topic" -> "Stance"
-                                    String socialStanceKey = "Social Stance: " + topic;
-                                    currentCandidate.put(socialStanceKey, stance);
-                                    
-                                    // Add topic to list of social stances if it's not already there
-                                    if (!socialStancesList.contains(topic)) {
-                                        socialStancesList.add(topic);
-                                    }
-                                    
-                                    // Debug output
-                                    System.out.println("Parsed social stance: " + socialStanceKey + " -> " + stance);
-                                }
-                            } else {
-                                // Just in case it doesn't follow the expected format
-                                currentCandidate.put(key, value);
-                            }
-                        } else {
-                            // Store in candidate data for other key types
-                            currentCandidate.put(key, value);
-                            
-                            // If this is a social stance entry with the full key, add to our list of stances
-                            if (key.startsWith("Social Stance:")) {
-                                String stanceTopic = key.substring("Social Stance:".length()).trim();
-                                if (!socialStancesList.contains(stanceTopic)) {
-                                    socialStancesList.add(stanceTopic);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            
-            // Add the last candidate
-            if (currentCandidate != null && currentName != null) {
-                candidateCache.put(currentName, currentCandidate);
-            }
-            
-            reader.close();
-            System.out.println("Loaded " + candidateCache.size() + " candidates into cache");
-            System.out.println("Found " + socialStancesList.size() + " social stance topics");
-            
-            // Debug: Print the first candidate's social stances
-            if (!candidateCache.isEmpty()) {
-                String firstCandidateName = candidateCache.keySet().iterator().next();
-                Map<String, String> firstCandidate = candidateCache.get(firstCandidateName);
-                System.out.println("\nSocial stances for " + firstCandidateName + ":");
-                for (Map.Entry<String, String> entry : firstCandidate.entrySet()) {
-                    if (entry.getKey().startsWith("Social Stance:")) {
-                        System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
-                    }
-                }
-            }
-            
-        } catch (IOException e) {
-            System.err.println("Error loading candidates: " + e.getMessage());
-            e.printStackTrace();
-        }
+        CandidateIndex index = CandidateIndex.get();
+        candidateCache.clear();
+        candidateCache.putAll(index.getRecords());
+        socialStancesList = index.getStanceTopics();
+        
+        System.out.println("Loaded " + candidateCache.size() + " candidates into cache");
+        System.out.println("Found " + socialStancesList.size() + " social stance topics");
     }
     
     /**
@@ -292,45 +190,61 @@ public class CandidateDataManager {
      * @return BufferedImage of the candidate's profile picture or default image if not found
      */
     public static BufferedImage getCandidateImage(String name) {
-        // Check image cache first
-        if (imageCache.containsKey(name)) {
-            return imageCache.get(name);
-        }
-        
         // Get image path from candidate data
         String imagePath = getCandidateAttribute(name, "Image");
         
         // If no valid path, use default
         if (imagePath.equals("No Data")) {
-            imageCache.put(name, defaultProfileImage);
-            return defaultProfileImage;
+            return getDefaultProfileImage();
         }
         
-        // Try to load image from the specified path
-        try {
-            File imageFile = new File(imagePath);
-            if (imageFile.exists()) {
-                BufferedImage image = ImageIO.read(imageFile);
-                imageCache.put(name, image);
-                return image;
-            } else {
-                System.out.println("Image file not found for " + name + ": " + imagePath + " - Using default image");
-                imageCache.put(name, defaultProfileImage);
-                return defaultProfileImage;
+        return ImageCache.getInstance().getImageOrDefault(imagePath);
+    }
+    
+    /**
+     * Start loading a candidate's record and image in the background, e.g. while a
+     * suggestion is hovered. Repeated calls for the same name share one load.
+     * @param name Candidate name
+     * @return The pending or finished load
+     */
+    public static CompletableFuture<CandidateRecord> prefetchCandidate(String name) {
+        synchronized (prefetched) {
+            CompletableFuture<CandidateRecord> future = prefetched.get(name);
+            if (future == null) {
+                future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        // Looking up the image path loads the record into the cache for the panels
+                        return new CandidateRecord(name, getCandidateImage(name));
+                    } catch (RuntimeException e) {
+                        System.err.println("Error prefetching candidate " + name + ": " + e.getMessage());
+                        return new CandidateRecord(name, getDefaultProfileImage());
+                    }
+                }, prefetchExecutor);
+                prefetched.put(name, future);
             }
-        } catch (IOException e) {
-            System.out.println("Error loading image for " + name + ": " + e.getMessage() + " - Using default image");
-            imageCache.put(name, defaultProfileImage);
-            return defaultProfileImage;
+            return future;
         }
     }
     
+    /**
+     * Load both compared candidates in parallel and hand them to the callback on the EDT
+     * @param leftName Left candidate name
+     * @param rightName Right candidate name
+     * @param onLoaded Receives the left and right records once both are loaded
+     */
+    public static void prefetchComparison(String leftName, String rightName,
+                                          BiConsumer<CandidateRecord, CandidateRecord> onLoaded) {
+        prefetchCandidate(leftName)
+            .thenCombine(prefetchCandidate(rightName), (left, right) -> new CandidateRecord[] {left, right})
+            .thenAccept(records -> SwingUtilities.invokeLater(() -> onLoaded.accept(records[0], records[1])));
+    }
+    
     /**
      * Get the default profile image
      * @return Default profile image
      */
     public static BufferedImage getDefaultProfileImage() {
-        return defaultProfileImage;
+        return ImageCache.getInstance().getDefaultProfileImage();
     }
     
     /**
@@ -7,6 +7,7 @@ import java.awt.font.TextAttribute;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * Selection component for comparison categories
@@ -230,7 +231,7 @@ public class CompareSelection extends JPanel {
                 // Apply letter spacing
                 Map<TextAttribute, Object> attributes = new HashMap<>();
                 attributes.put(TextAttribute.TRACKING, -0.02); // -2% letter spacing
-                buttonFont = buttonFont.deriveFont(14f).deriveFont(attributes);
+                buttonFont = FontRegistry.derive(buttonFont, 14f).deriveFont(attributes);
             }
             
             g2d.setFont(buttonFont);
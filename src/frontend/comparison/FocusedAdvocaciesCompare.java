@@ -10,6 +10,7 @@ import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * Component for displaying focused advocacies comparison between two candidates
@@ -157,7 +158,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
         // Add name label
         JLabel nameLabel = new JLabel("Select a candidate");
         nameLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(16f) : 
+                          FontRegistry.derive(interSemiBold, 16f) : 
                           new Font("Sans-Serif", Font.BOLD, 16));
         nameLabel.setForeground(textColor);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -166,7 +167,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
         // Add tagline
         JLabel tagLine = new JLabel("Key advocacy platforms:");
         tagLine.setFont(interRegular != null ? 
-                          interRegular.deriveFont(12f) : 
+                          FontRegistry.derive(interRegular, 12f) : 
                           new Font("Sans-Serif", Font.ITALIC, 12));
         tagLine.setForeground(new Color(0x64, 0x64, 0x64));
         tagLine.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -222,7 +223,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
         // Add title
         JLabel titleLabel = new JLabel(title);
         titleLabel.setFont(interMedium != null ? 
-                           interMedium.deriveFont(14f) : 
+                           FontRegistry.derive(interMedium, 14f) : 
                            new Font("Sans-Serif", Font.BOLD, 14));
         titleLabel.setForeground(orangeAccent);
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -247,7 +248,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
             // Add placeholder "No data" text
             JLabel noDataLabel = new JLabel("No data available");
             noDataLabel.setFont(interRegular != null ? 
-                              interRegular.deriveFont(14f) : 
+                              FontRegistry.derive(interRegular, 14f) : 
                               new Font("Sans-Serif", Font.ITALIC, 14));
             noDataLabel.setForeground(textColor);
             noDataLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -272,7 +273,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
         // Bullet point
         JLabel bulletLabel = new JLabel("\u2022"); // Unicode bullet character
         bulletLabel.setFont(interRegular != null ? 
-                          interRegular.deriveFont(14f) : 
+                          FontRegistry.derive(interRegular, 14f) : 
                           new Font("Sans-Serif", Font.PLAIN, 14));
         bulletLabel.setForeground(textColor);
         bulletLabel.setVerticalAlignment(JLabel.TOP); // Align to top for multi-line text
@@ -280,7 +281,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
         // Create a text area for wrapped text instead of a label
         JTextArea itemText = new JTextArea(text);
         itemText.setFont(interRegular != null ? 
-                        interRegular.deriveFont(14f) : 
+                        FontRegistry.derive(interRegular, 14f) : 
                         new Font("Sans-Serif", Font.PLAIN, 14));
         itemText.setForeground(textColor);
         itemText.setWrapStyleWord(true);
@@ -655,7 +656,7 @@ public class FocusedAdvocaciesCompare extends JPanel {
                             // Add "No data" text
                             JLabel noDataLabel = new JLabel("No data available");
                             noDataLabel.setFont(interRegular != null ? 
-                                              interRegular.deriveFont(14f) : 
+                                              FontRegistry.derive(interRegular, 14f) : 
                                               new Font("Sans-Serif", Font.ITALIC, 14));
                             noDataLabel.setForeground(textColor);
                             noDataLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -9,6 +9,7 @@ import java.io.IOException;
 import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * Component for displaying profile background comparison between two candidates
@@ -156,7 +157,7 @@ public class ProfileBackgroundCompare extends JPanel {
         // Add name label
         JLabel nameLabel = new JLabel("Select a candidate");
         nameLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(16f) : 
+                          FontRegistry.derive(interSemiBold, 16f) : 
                           new Font("Sans-Serif", Font.BOLD, 16));
         nameLabel.setForeground(textColor);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -212,7 +213,7 @@ public class ProfileBackgroundCompare extends JPanel {
         // Add label
         JLabel titleLabel = new JLabel(label);
         titleLabel.setFont(interMedium != null ? 
-                          interMedium.deriveFont(14f) : 
+                          FontRegistry.derive(interMedium, 14f) : 
                           new Font("Sans-Serif", Font.BOLD, 14));
         titleLabel.setForeground(orangeAccent);
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -224,7 +225,7 @@ public class ProfileBackgroundCompare extends JPanel {
         // Add value
         JLabel valueLabel = new JLabel(value.isEmpty() ? "No data available" : value);
         valueLabel.setFont(interRegular != null ? 
-                         interRegular.deriveFont(14f) : 
+                         FontRegistry.derive(interRegular, 14f) : 
                          new Font("Sans-Serif", Font.PLAIN, 14));
         valueLabel.setForeground(textColor);
         valueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
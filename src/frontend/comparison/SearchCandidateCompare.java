@@ -16,6 +16,8 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.ArrayList;
 import java.util.List;
+import util.FontRegistry;
+import util.ScaledImageCache;
 
 /**
  * Modular component for side-by-side candidate search in comparison page
@@ -142,7 +144,7 @@ public class SearchCandidateCompare extends JPanel {
         Map<TextAttribute, Object> attributes = new HashMap<>();
         attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
         Font labelFont = interSemiBold != null ? 
-            interSemiBold.deriveFont(14f).deriveFont(attributes) : 
+            FontRegistry.derive(interSemiBold, 14f).deriveFont(attributes) : 
             new Font("Sans-Serif", Font.PLAIN, 14);
         leftLabel.setFont(labelFont);
         leftLabel.setForeground(paragraphColor);
@@ -250,7 +252,7 @@ public class SearchCandidateCompare extends JPanel {
             JLabel itemLabel = new JLabel(suggestion);
             // Style suggestion item
             if (interRegular != null) {
-                itemLabel.setFont(interRegular.deriveFont(14f));
+                itemLabel.setFont(FontRegistry.derive(interRegular, 14f));
             }
             itemLabel.setForeground(new Color(0x47, 0x55, 0x69)); // Match text color
             
@@ -261,6 +263,9 @@ public class SearchCandidateCompare extends JPanel {
                 @Override
                 public void mouseEntered(MouseEvent e) {
                     itemPanel.setBackground(new Color(0xF0, 0xF7, 0xFF)); // Light blue hover
+                    
+                    // Likely to be picked, so start loading its data and image now
+                    CandidateDataManager.prefetchCandidate(suggestion);
                 }
                 
                 @Override
@@ -340,8 +345,8 @@ public class SearchCandidateCompare extends JPanel {
                     int iconWidth = (int)((double)searchIconImage.getWidth() / searchIconImage.getHeight() * iconHeight);
                     
                     // Draw icon on left side with padding
-                    g2d.drawImage(searchIconImage, 15, (getHeight() - iconHeight) / 2, 
-                                iconWidth, iconHeight, this);
+                    ScaledImageCache.getScaledIcon(searchIconImage, iconWidth, iconHeight)
+                            .paintIcon(this, g2d, 15, (getHeight() - iconHeight) / 2);
                 }
             }
         };
@@ -351,7 +356,7 @@ public class SearchCandidateCompare extends JPanel {
         JTextField textField = new JTextField(placeholder);
         textField.setForeground(Color.GRAY);
         if (interRegular != null) {
-            textField.setFont(interRegular.deriveFont(14f));
+            textField.setFont(FontRegistry.derive(interRegular, 14f));
         } else {
             textField.setFont(new Font("Sans-Serif", Font.PLAIN, 14));
         }
@@ -371,8 +376,7 @@ public class SearchCandidateCompare extends JPanel {
             int clearIconHeight = 16;
             int clearIconWidth = (int)((double)clearIconImage.getWidth() / clearIconImage.getHeight() * clearIconHeight);
             
-            Image scaledImage = clearIconImage.getScaledInstance(clearIconWidth, clearIconHeight, Image.SCALE_SMOOTH);
-            clearIconLabel.setIcon(new ImageIcon(scaledImage));
+            clearIconLabel.setIcon(ScaledImageCache.getScaledIcon(clearIconImage, clearIconWidth, clearIconHeight));
             clearIconLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
             clearIconLabel.setVisible(false);
             
@@ -514,7 +518,7 @@ public class SearchCandidateCompare extends JPanel {
                 
                 // Use Inter Medium font if available
                 Font compareFont = interMedium != null ? 
-                    interMedium.deriveFont(16f) : 
+                    FontRegistry.derive(interMedium, 16f) : 
                     new Font("Sans-Serif", Font.BOLD, 16);
                 g2d.setFont(compareFont);
                 
@@ -9,6 +9,7 @@ import java.io.IOException;
 import javax.imageio.ImageIO;
 import java.util.List;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * Component for displaying social stances comparison between two candidates
@@ -178,7 +179,7 @@ public class SocialStancesCompare extends JPanel {
         // Add name label
         JLabel nameLabel = new JLabel("Select a candidate");
         nameLabel.setFont(interSemiBold != null ? 
-                          interSemiBold.deriveFont(16f) : 
+                          FontRegistry.derive(interSemiBold, 16f) : 
                           new Font("Sans-Serif", Font.BOLD, 16));
         nameLabel.setForeground(textColor);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -187,7 +188,7 @@ public class SocialStancesCompare extends JPanel {
         // Add tagline
         JLabel tagLine = new JLabel("Positions on social issues:");
         tagLine.setFont(interRegular != null ? 
-                          interRegular.deriveFont(12f) : 
+                          FontRegistry.derive(interRegular, 12f) : 
                           new Font("Sans-Serif", Font.ITALIC, 12));
         tagLine.setForeground(new Color(0x64, 0x64, 0x64));
         tagLine.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -269,7 +270,7 @@ public class SocialStancesCompare extends JPanel {
         // Add a placeholder message
         JLabel placeholderLabel = new JLabel("Select candidates to view their social stances");
         placeholderLabel.setFont(interRegular != null ? 
-                              interRegular.deriveFont(14f) : 
+                              FontRegistry.derive(interRegular, 14f) : 
                               new Font("Sans-Serif", Font.ITALIC, 14));
         placeholderLabel.setForeground(textColor);
         placeholderLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -400,14 +401,14 @@ public class SocialStancesCompare extends JPanel {
         // Issue text
         JLabel issueLabel = new JLabel(issue);
         issueLabel.setFont(interMedium != null ? 
-                         interMedium.deriveFont(14f) : 
+                         FontRegistry.derive(interMedium, 14f) : 
                          new Font("Sans-Serif", Font.BOLD, 14));
         issueLabel.setForeground(textColor);
         
         // Position text - Ensure text color matches the indicator color
         JLabel positionLabel = new JLabel(finalPositionText);
         positionLabel.setFont(interRegular != null ? 
-                            interRegular.deriveFont(14f) : 
+                            FontRegistry.derive(interRegular, 14f) : 
                             new Font("Sans-Serif", Font.PLAIN, 14));
         
         // Force the color assignment for the position label using switch for explicit control
@@ -459,7 +460,7 @@ public class SocialStancesCompare extends JPanel {
             // Original text label with smaller font and color that matches the stance
             JLabel originalTextLabel = new JLabel("\"" + finalOriginalStance + "\"");
             originalTextLabel.setFont(interRegular != null ? 
-                                   interRegular.deriveFont(12f) : 
+                                   FontRegistry.derive(interRegular, 12f) : 
                                    new Font("Sans-Serif", Font.ITALIC, 12));
             
             // Set the color of the original text to match the stance color, but with some transparency
@@ -548,7 +549,7 @@ public class SocialStancesCompare extends JPanel {
         // Text label
         JLabel label = new JLabel(text);
         label.setFont(interRegular != null ? 
-                     interRegular.deriveFont(12f) : 
+                     FontRegistry.derive(interRegular, 12f) : 
                      new Font("Sans-Serif", Font.PLAIN, 12));
         
         // Set the label color to match the indicator for better visibility
@@ -894,7 +895,7 @@ public class SocialStancesCompare extends JPanel {
                         if (candidateName.isEmpty()) {
                             JLabel noDataLabel = new JLabel("Select a candidate to view their social stances");
                             noDataLabel.setFont(interRegular != null ? 
-                                             interRegular.deriveFont(14f) : 
+                                             FontRegistry.derive(interRegular, 14f) : 
                                              new Font("Sans-Serif", Font.ITALIC, 14));
                             noDataLabel.setForeground(textColor);
                             noDataLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -959,7 +960,7 @@ public class SocialStancesCompare extends JPanel {
                                 if (!hasAnyStance) {
                                     JLabel noStancesLabel = new JLabel("No stance data found for this candidate");
                                     noStancesLabel.setFont(interRegular != null ? 
-                                                      interRegular.deriveFont(14f) : 
+                                                      FontRegistry.derive(interRegular, 14f) : 
                                                       new Font("Sans-Serif", Font.ITALIC, 14));
                                     noStancesLabel.setForeground(textColor);
                                     noStancesLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -21,7 +21,13 @@ import frontend.comparison.CandidateComparisonUI;
 import frontend.overview.CandidateOverviewUI;
 import frontend.quiz.CandidateQuizUI;
 import frontend.admin.AdminPanelUI;
+import frontend.utils.ScreenPrewarmer;
+import frontend.utils.WindowRegistry;
 import frontend.utils.WindowTransitionManager;
+import util.BackdropCache;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.StartupTrace;
 
 public class LandingPageUI extends JFrame {
     
@@ -127,23 +133,10 @@ public class LandingPageUI extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                // Fill the background with white
-                g.setColor(new Color(0xFF, 0xFF, 0xFF)); // #FFFFFF
-                g.fillRect(0, 0, getWidth(), getHeight());
+                StartupTrace.firstPaint("LandingPageUI");
                 
                 // Draw background image centered with reduced opacity
                 if (backgroundImage != null && showBackgroundImage) {
-                    // Use Graphics2D for better quality rendering and to set opacity
-                    Graphics2D g2d = (Graphics2D)g;
-                    
-                    // Enable high-quality rendering
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
-                                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g2d.setRenderingHint(RenderingHints.KEY_RENDERING, 
-                                        RenderingHints.VALUE_RENDER_QUALITY);
-                    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                                        RenderingHints.VALUE_ANTIALIAS_ON);
-                    
                     // Calculate dimensions for 200% scaling
                     int scaledWidth = (int)(backgroundImage.getWidth() * 2);
                     int scaledHeight = (int)(backgroundImage.getHeight() * 2);
@@ -161,15 +154,14 @@ public class LandingPageUI extends JFrame {
                         paintedOnce = true;
                     }
                     
-                    // Set the opacity to 3% (0.03f) - reduced from 5%
-                    AlphaComposite alphaComposite = AlphaComposite.getInstance(
-                        AlphaComposite.SRC_OVER, 0.03f);
-                    g2d.setComposite(alphaComposite);
-                    
-                    g2d.drawImage(backgroundImage, imageX, imageY, scaledWidth, scaledHeight, this);
-                    
-                    // Reset composite for other components
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+                    // White fill and the backdrop at 3% opacity are pre-rendered once per window size,
+                    // so hover repaints of the buttons are a plain copy
+                    BackdropCache.paint(this, g, backgroundImage, new Color(0xFF, 0xFF, 0xFF),
+                            imageX, imageY, scaledWidth, scaledHeight, 0.03f);
+                } else {
+                    // Fill the background with white
+                    g.setColor(new Color(0xFF, 0xFF, 0xFF)); // #FFFFFF
+                    g.fillRect(0, 0, getWidth(), getHeight());
                 }
                 
                 // Draw header image, centered horizontally and at adjusted Y position
@@ -230,7 +222,7 @@ public class LandingPageUI extends JFrame {
                         // Set font for the heading
                         float headingFontSize = 38f * (float)widthScaleFactor;
                         headingFontSize = Math.max(24f, headingFontSize); // Minimum size
-                        Font scaledHeadingFont = interBlack.deriveFont(headingFontSize);
+                        Font scaledHeadingFont = FontRegistry.derive(interBlack, headingFontSize);
                         
                         // Apply letter spacing (-5%)
                         Map<TextAttribute, Object> headingAttributes = new HashMap<>();
@@ -257,7 +249,7 @@ public class LandingPageUI extends JFrame {
                             // Set font for paragraph - making it smaller
                             float paragraphFontSize = 16f * (float)widthScaleFactor; // Reduced from 18f
                             paragraphFontSize = Math.max(10f, paragraphFontSize); // Minimum size reduced
-                            Font scaledParagraphFont = interSemiBold.deriveFont(paragraphFontSize);
+                            Font scaledParagraphFont = FontRegistry.derive(interSemiBold, paragraphFontSize);
                             
                             // Apply letter spacing (-5%)
                             Map<TextAttribute, Object> paragraphAttributes = new HashMap<>();
@@ -339,7 +331,7 @@ public class LandingPageUI extends JFrame {
                         // Apply letter spacing (-5%) to title font
                         Map<TextAttribute, Object> titleAttributes = new HashMap<>();
                         titleAttributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                        Font scaledTitleFont = interBold.deriveFont(scaledTitleFontSize).deriveFont(titleAttributes);
+                        Font scaledTitleFont = FontRegistry.derive(interBold, scaledTitleFontSize).deriveFont(titleAttributes);
                         
                         float scaledContentFontSize = infoContentFontSize * (float)scaleRatio;
                         scaledContentFontSize = Math.max(9f, scaledContentFontSize); // Minimum size
@@ -347,7 +339,7 @@ public class LandingPageUI extends JFrame {
                         // Apply letter spacing (-5%) to content font
                         Map<TextAttribute, Object> contentAttributes = new HashMap<>();
                         contentAttributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                        Font scaledContentFont = interMedium.deriveFont(scaledContentFontSize).deriveFont(contentAttributes);
+                        Font scaledContentFont = FontRegistry.derive(interMedium, scaledContentFontSize).deriveFont(contentAttributes);
                         
                         // Metrics for alignment
                         g2d.setFont(scaledTitleFont);
@@ -409,7 +401,7 @@ public class LandingPageUI extends JFrame {
                         // Apply letter spacing (-5%) to watermark font
                         Map<TextAttribute, Object> watermarkAttributes = new HashMap<>();
                         watermarkAttributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                        scaledWatermarkFont = interMedium.deriveFont(scaledWatermarkFontSize).deriveFont(watermarkAttributes);
+                        scaledWatermarkFont = FontRegistry.derive(interMedium, scaledWatermarkFontSize).deriveFont(watermarkAttributes);
                     } else {
                         // Fallback to system font
                         scaledWatermarkFont = new Font("SansSerif", Font.PLAIN, (int)scaledWatermarkFontSize);
@@ -505,27 +497,33 @@ public class LandingPageUI extends JFrame {
         // Add action listener for Search button
         button1.addActionListener(e -> {
             // Use fade transition instead of creating a new window directly
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateSearchUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateSearchUI.class, CandidateSearchUI::new));
         });
         
         // Add action listener for Compare button
         button2.addActionListener(e -> {
             // Use fade transition instead of creating a new window directly
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateComparisonUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateComparisonUI.class, CandidateComparisonUI::new));
         });
         
         // Add action listener for Overview button
         button3.addActionListener(e -> {
             // Use fade transition instead of creating a new window directly
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateOverviewUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateOverviewUI.class, CandidateOverviewUI::new));
         });
         
         // Add action listener for Quiz button
         button4.addActionListener(e -> {
             // Use fade transition instead of creating a new window directly
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateQuizUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateQuizUI.class, CandidateQuizUI::new));
         });
         
+        // Start loading each target screen as soon as its button is hovered or focused
+        addPrewarmListener(button1, CandidateSearchUI.class);
+        addPrewarmListener(button2, CandidateComparisonUI.class);
+        addPrewarmListener(button3, CandidateOverviewUI.class);
+        addPrewarmListener(button4, CandidateQuizUI.class);
+        
         // Add buttons to panel
         buttonPanel.add(button1);
         buttonPanel.add(button2);
@@ -626,124 +624,23 @@ public class LandingPageUI extends JFrame {
     }
     
     private void loadSearchIconImage() {
-        try {
-            // Get the current working directory for debugging
-            String currentDir = System.getProperty("user.dir");
-            System.out.println("Current working directory: " + currentDir);
-            
-            // Define base directories to search
-            String[] baseDirs = {
-                "resources/images",
-                "../resources/images",
-                "../../resources/images",
-                "src/resources/images",
-                "./resources/images",
-                new File(currentDir).getParent() + "/resources/images"
-            };
-            
-            // Load search icon
-            File searchIconFile = findFileInBaseDirs(baseDirs, "Buttons Icon/search_masked.png");
-            if (searchIconFile != null && searchIconFile.exists()) {
-                searchIconImage = ImageIO.read(searchIconFile);
-                System.out.println("Search icon image loaded successfully. Size: " + 
-                                   searchIconImage.getWidth() + "x" + searchIconImage.getHeight());
-            }
-            
-            // Load compare icon
-            File compareIconFile = findFileInBaseDirs(baseDirs, "Buttons Icon/compare_masked.png");
-            if (compareIconFile != null && compareIconFile.exists()) {
-                compareIconImage = ImageIO.read(compareIconFile);
-                System.out.println("Compare icon loaded successfully");
-            }
-            
-            // Load overview icon
-            File overviewIconFile = findFileInBaseDirs(baseDirs, "Buttons Icon/overview_masked.png");
-            if (overviewIconFile != null && overviewIconFile.exists()) {
-                overviewIconImage = ImageIO.read(overviewIconFile);
-                System.out.println("Overview icon loaded successfully");
-            }
-            
-            // Load quiz icon
-            File quizIconFile = findFileInBaseDirs(baseDirs, "Buttons Icon/quiz_masked.png");
-            if (quizIconFile != null && quizIconFile.exists()) {
-                quizIconImage = ImageIO.read(quizIconFile);
-                System.out.println("Quiz icon loaded successfully");
-            }
-            
-        } catch (IOException e) {
-            System.out.println("Error loading icon images: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Helper method to find a file by searching in multiple base directories
-     * @param baseDirs Array of base directories to search in
-     * @param fileName The file name to look for in each base directory
-     * @return The File object if found, null otherwise
-     */
-    private File findFileInBaseDirs(String[] baseDirs, String fileName) {
-        for (String baseDir : baseDirs) {
-            File testFile = new File(baseDir + "/" + fileName);
-            if (testFile.exists()) {
-                System.out.println("Found file at: " + testFile.getAbsolutePath());
-                return testFile;
-            }
+        searchIconImage = IconAtlas.getIcon("Buttons Icon/search_masked.png");
+        compareIconImage = IconAtlas.getIcon("Buttons Icon/compare_masked.png");
+        overviewIconImage = IconAtlas.getIcon("Buttons Icon/overview_masked.png");
+        quizIconImage = IconAtlas.getIcon("Buttons Icon/quiz_masked.png");
+        
+        if (searchIconImage == null || compareIconImage == null || overviewIconImage == null || quizIconImage == null) {
+            System.out.println("Some button icons could not be loaded");
         }
-        System.out.println("Could not find file: " + fileName);
-        return null;
     }
     
     private void loadBackgroundImage() {
-        try {
-            // Get the current working directory
-            String currentDir = System.getProperty("user.dir");
-            System.out.println("Current working directory: " + currentDir);
-            
-            // Try multiple possible locations for the image file
-            String[] possiblePaths = {
-                "resources/images/Landing-Backdrop.png",
-                "../resources/images/Landing-Backdrop.png",
-                "../../resources/images/Landing-Backdrop.png",
-                "src/resources/images/Landing-Backdrop.png",
-                "./resources/images/Landing-Backdrop.png",
-                "Landing-Backdrop.png",
-                "images/Landing-Backdrop.png",
-                "../resources/images/Landing-Backdrop.png",
-                new File(currentDir).getParent() + "/resources/images/Landing-Backdrop.png"
-            };
-            
-            File imageFile = null;
-            for (String path : possiblePaths) {
-                File testFile = new File(path);
-                System.out.println("Checking for image at: " + testFile.getAbsolutePath() + 
-                                  " (exists: " + testFile.exists() + ")");
-                if (testFile.exists()) {
-                    imageFile = testFile;
-                    break;
-                }
-            }
-            
-            if (imageFile != null && imageFile.exists()) {
-                System.out.println("Found image at: " + imageFile.getAbsolutePath());
-                System.out.println("Image file exists. Size: " + imageFile.length() + " bytes");
-                
-                backgroundImage = ImageIO.read(imageFile);
-                if (backgroundImage != null) {
-                    System.out.println("Background image loaded successfully. Dimensions: " + 
-                                      backgroundImage.getWidth() + "x" + backgroundImage.getHeight() +
-                                      ", Alpha: " + backgroundImage.getColorModel().hasAlpha());
-                } else {
-                    System.out.println("Failed to read image data from file: " + imageFile.getAbsolutePath());
-                    createFallbackImage();
-                }
-            } else {
-                System.out.println("Background image file not found in any of the checked locations.");
-                createFallbackImage();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.out.println("Error loading background image: " + e.getMessage());
+        backgroundImage = BackdropCache.getBackdropImage();
+        if (backgroundImage != null) {
+            System.out.println("Background image loaded successfully. Dimensions: " + 
+                              backgroundImage.getWidth() + "x" + backgroundImage.getHeight());
+        } else {
+            System.out.println("Background image file not found: " + BackdropCache.BACKDROP_PATH);
             createFallbackImage();
         }
     }
@@ -881,13 +778,10 @@ public class LandingPageUI extends JFrame {
             }
             
             // Load and register the fonts
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             // Load Regular font first (used as fallback)
             if (interRegularFile != null && interRegularFile.exists()) {
                 System.out.println("Loading Regular font: " + interRegularFile.getAbsolutePath());
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
                 System.out.println("Regular font loaded successfully: " + interRegular.getFamily());
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
@@ -897,8 +791,7 @@ public class LandingPageUI extends JFrame {
             // Load Black font
             if (interBlackFile != null && interBlackFile.exists()) {
                 System.out.println("Loading Black font: " + interBlackFile.getAbsolutePath());
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
                 System.out.println("Black font loaded successfully: " + interBlack.getFamily());
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
@@ -908,8 +801,7 @@ public class LandingPageUI extends JFrame {
             // Load SemiBold font
             if (interSemiBoldFile != null && interSemiBoldFile.exists()) {
                 System.out.println("Loading SemiBold font: " + interSemiBoldFile.getAbsolutePath());
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
                 System.out.println("SemiBold font loaded successfully: " + interSemiBold.getFamily());
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
@@ -919,8 +811,7 @@ public class LandingPageUI extends JFrame {
             // Load Bold font
             if (interBoldFile != null && interBoldFile.exists()) {
                 System.out.println("Loading Bold font: " + interBoldFile.getAbsolutePath());
-                interBold = Font.createFont(Font.TRUETYPE_FONT, interBoldFile);
-                ge.registerFont(interBold);
+                interBold = FontRegistry.getFont(interBoldFile);
                 System.out.println("Bold font loaded successfully: " + interBold.getFamily());
             } else {
                 interBold = new Font("Sans-Serif", Font.BOLD, 12);
@@ -930,8 +821,7 @@ public class LandingPageUI extends JFrame {
             // Load Medium font
             if (interMediumFile != null && interMediumFile.exists()) {
                 System.out.println("Loading Medium font: " + interMediumFile.getAbsolutePath());
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
                 System.out.println("Medium font loaded successfully: " + interMedium.getFamily());
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
@@ -951,6 +841,24 @@ public class LandingPageUI extends JFrame {
         }
     }
     
+    /**
+     * Prewarm a screen when the user points at or tabs to the button that opens it
+     */
+    private void addPrewarmListener(JButton button, Class<? extends JFrame> screen) {
+        button.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseEntered(MouseEvent e) {
+                ScreenPrewarmer.prewarm(screen);
+            }
+        });
+        button.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusGained(FocusEvent e) {
+                ScreenPrewarmer.prewarm(screen);
+            }
+        });
+    }
+    
     private JButton createStyledButton(String text, Color bgColor) {
         // Create a custom JButton with rounded corners and hover animation
         class StyledButton extends JButton {
@@ -1175,7 +1083,7 @@ public class LandingPageUI extends JFrame {
                             // Scale font size based on button height
                             float titleFontSize = 18f * (height / (float)buttonHeight);
                             titleFontSize = Math.max(12f, titleFontSize); // Minimum size
-                            titleFont = titleFont.deriveFont(titleFontSize);
+                            titleFont = FontRegistry.derive(titleFont, titleFontSize);
                             
                             // Apply letter spacing (-5%)
                             Map<TextAttribute, Object> attributes = new HashMap<>();
@@ -1192,7 +1100,7 @@ public class LandingPageUI extends JFrame {
                             // Smaller size for description (14pt)
                             float descFontSize = 14f * (height / (float)buttonHeight);
                             descFontSize = Math.max(9f, descFontSize); // Minimum size
-                            descFont = descFont.deriveFont(descFontSize);
+                            descFont = FontRegistry.derive(descFont, descFontSize);
                             
                             // Apply letter spacing (-5%)
                             Map<TextAttribute, Object> attributes = new HashMap<>();
@@ -1501,7 +1409,7 @@ public class LandingPageUI extends JFrame {
                 for (final File fontFile : fontFiles) {
                     try {
                         // Try to load the font
-                        Font font = Font.createFont(Font.TRUETYPE_FONT, fontFile);
+                        Font font = FontRegistry.getFont(fontFile);
                         
                         // Create a panel for this font
                         JPanel fontPanel = new JPanel();
@@ -1532,17 +1440,17 @@ public class LandingPageUI extends JFrame {
                         
                         // Small size
                         JLabel smallLabel = new JLabel("The quick brown fox jumps over the lazy dog (18pt)");
-                        smallLabel.setFont(font.deriveFont(18f));
+                        smallLabel.setFont(FontRegistry.derive(font, 18f));
                         previewPanel.add(smallLabel);
                         
                         // Medium size
                         JLabel mediumLabel = new JLabel("ABCDEFGHIJKLMNOPQRSTUVWXYZ (24pt)");
-                        mediumLabel.setFont(font.deriveFont(24f));
+                        mediumLabel.setFont(FontRegistry.derive(font, 24f));
                         previewPanel.add(mediumLabel);
                         
                         // Large size - matching button size
                         JLabel largeLabel = new JLabel("1234567890 (38pt)");
-                        largeLabel.setFont(font.deriveFont(Font.BOLD, 38f));
+                        largeLabel.setFont(FontRegistry.derive(font, Font.BOLD, 38f));
                         previewPanel.add(largeLabel);
                         
                         fontPanel.add(previewPanel);
@@ -1724,7 +1632,7 @@ public class LandingPageUI extends JFrame {
         if (interBlack != null) {
             try {
                 // Derive the font with new size
-                Font buttonFont = interBlack.deriveFont(fontSize);
+                Font buttonFont = FontRegistry.derive(interBlack, fontSize);
                 
                 // Apply letter spacing (-5%)
                 Map<TextAttribute, Object> attributes = new HashMap<>();
@@ -2081,7 +1989,7 @@ public class LandingPageUI extends JFrame {
                     if (slideOffset > MAX_SLIDE/3) {
                         Font loginFont = interMedium;
                         if (loginFont != null) {
-                            loginFont = loginFont.deriveFont(14f);
+                            loginFont = FontRegistry.derive(loginFont, 14f);
                         } else {
                             loginFont = new Font("SansSerif", Font.PLAIN, 14);
                         }
@@ -2168,11 +2076,11 @@ public class LandingPageUI extends JFrame {
         // Set a stronger, more visible font
         if (interSemiBold != null) {
             // Use SemiBold for stronger visibility
-            Font adminFont = interSemiBold.deriveFont(Font.BOLD, 14f);
+            Font adminFont = FontRegistry.derive(interSemiBold, Font.BOLD, 14f);
             button.setFont(adminFont);
         } else if (interBold != null) {
             // Fallback to Bold
-            button.setFont(interBold.deriveFont(14f));
+            button.setFont(FontRegistry.derive(interBold, 14f));
         } else {
             // System font fallback
             button.setFont(new Font("Sans-Serif", Font.BOLD, 14));
@@ -2194,19 +2102,19 @@ public class LandingPageUI extends JFrame {
         // Navigate to appropriate UI with fade transition
         if ("comparison".equals(cardType)) {
             // Use fade transition for comparison UI
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateComparisonUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateComparisonUI.class, CandidateComparisonUI::new));
         }
         else if ("search".equals(cardType)) {
             // Use fade transition for search UI
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateSearchUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateSearchUI.class, CandidateSearchUI::new));
         }
         else if ("overview".equals(cardType)) {
             // Use fade transition for overview UI
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateOverviewUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateOverviewUI.class, CandidateOverviewUI::new));
         }
         else if ("quiz".equals(cardType)) {
             // Use fade transition for quiz UI
-            WindowTransitionManager.fadeTransition(this, () -> new CandidateQuizUI());
+            WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(CandidateQuizUI.class, CandidateQuizUI::new));
         }
     }
 } 
\ No newline at end of file
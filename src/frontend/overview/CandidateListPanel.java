@@ -6,18 +6,21 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
-import java.awt.geom.Ellipse2D;
 
 import backend.model.CandidateDataLoader;
+import backend.model.CandidateIndex;
 import frontend.comparison.MinimalScrollBarUI;
 import frontend.comparison.CandidateDataManager;
 import frontend.search.ViewCandidate;
+import util.AvatarRenderer;
+import util.AvatarStore;
+import util.FontRegistry;
+import util.ThumbnailCache;
 
 /**
  * A panel that displays candidates in a list view, grouped by position and sorted alphabetically
@@ -43,6 +46,9 @@ public class CandidateListPanel extends JPanel {
     private Color panelBackground = new Color(255, 255, 255, 245); // Slightly transparent white
     private Color cardBorder = new Color(0xE2, 0xE8, 0xF0); // #E2E8F0
     
+    // Diameter of the circular photo
+    private static final int AVATAR_SIZE = ThumbnailCache.LIST_AVATAR_SIZE;
+    
     // View profile callback
     private Consumer<String> onViewProfile;
     
@@ -58,14 +64,28 @@ public class CandidateListPanel extends JPanel {
     private Dimension preferredPanelSize = new Dimension(900, 600);
     private Dimension candidateCardSize = new Dimension(250, 80); // Larger cards for 3-column layout
     
-    // Cache for candidate images
-    private Map<String, BufferedImage> candidateImageCache = new HashMap<>();
-    
     // Store the positions
     private List<String> positions = new ArrayList<>();
     
-    // Store position panels for scrolling
-    private Map<String, JPanel> positionPanels = new HashMap<>();
+    // Layout of each position group: header, gap, grid rows, gap to the next group
+    private static final int HEADER_HEIGHT = 40;
+    private static final int HEADER_GAP = 5;
+    private static final int GROUP_GAP = 10;
+    private static final int CONTENT_PADDING = 5;
+    
+    // Height above and below the viewport whose cells are built ahead of scrolling
+    private static final int OVERSCAN = 200;
+    
+    // Candidates of each position, in the same order as positions
+    private List<List<CandidateDataLoader.Candidate>> groups = new ArrayList<>();
+    
+    // Top of each group's header, the prefix sums of the group heights, and the list's height
+    private int[] groupOffsets = new int[0];
+    private int totalHeight = 0;
+    
+    // Components that exist: headers of groups in view by group index, cells in view by candidate
+    private Map<Integer, JPanel> headerPanels = new HashMap<>();
+    private Map<CandidateDataLoader.Candidate, JPanel> cellPanels = new IdentityHashMap<>();
     
     /**
      * Create a panel that displays candidates in a list view
@@ -118,11 +138,8 @@ public class CandidateListPanel extends JPanel {
         mainContainer.setOpaque(false);
         mainContainer.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10)); // Reduced from 15px
         
-        // Create content panel with BoxLayout for vertical stacking
-        contentPanel = new JPanel();
-        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
-        contentPanel.setOpaque(false);
-        contentPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5)); // Reduced from 10px
+        // Create content panel that only holds the headers and cells in view
+        contentPanel = new GroupedListView();
         
         // Create scroll pane with ALWAYS showing scrollbar to ensure it's accessible
         scrollPane = new JScrollPane(contentPanel, 
@@ -136,6 +153,9 @@ public class CandidateListPanel extends JPanel {
         // Apply custom scrollbar UI
         scrollPane.getVerticalScrollBar().setUI(new MinimalScrollBarUI());
         
+        // Build the cells that scroll into view and move the sticky header
+        scrollPane.getViewport().addChangeListener(e -> updateVisibleItems());
+        
         // Add scroll pane to main container
         mainContainer.add(scrollPane, BorderLayout.CENTER);
         
@@ -162,11 +182,12 @@ public class CandidateListPanel extends JPanel {
      * @param position Position name
      */
     public void scrollToPosition(String position) {
-        JPanel panel = positionPanels.get(position);
-        if (panel != null) {
-            // Scroll to the position panel
-            Rectangle bounds = panel.getBounds();
-            scrollPane.getViewport().setViewPosition(new Point(0, bounds.y));
+        int group = positions.indexOf(position);
+        if (group >= 0) {
+            // Scroll to the group's offset, as far as the list can scroll
+            JViewport viewport = scrollPane.getViewport();
+            int maxY = Math.max(0, totalHeight - viewport.getExtentSize().height);
+            viewport.setViewPosition(new Point(0, Math.min(groupOffsets[group], maxY)));
             
             // Update UI
             revalidate();
@@ -175,86 +196,142 @@ public class CandidateListPanel extends JPanel {
     }
     
     /**
-     * Load candidate data and create list items
+     * Load candidate data and compute where each position group goes
      */
     private void loadCandidateData() {
         // Clear existing content
         contentPanel.removeAll();
-        positionPanels.clear();
+        headerPanels.clear();
+        cellPanels.clear();
         
         // Load candidate data
-        allCandidates = CandidateDataLoader.loadCandidates();
-        
-        // Group candidates by position
-        Map<String, List<CandidateDataLoader.Candidate>> candidatesByPosition = allCandidates.stream()
-            .collect(Collectors.groupingBy(CandidateDataLoader.Candidate::getPosition));
-        
-        // Define the custom position order
-        List<String> orderedPositions = Arrays.asList(
-            "President",
-            "Vice President",
-            "Senator",
-            "Governor",
-            "Vice Governor",
-            "Partylist Representative"
-        );
-        
-        // Create a list of positions that exist in our data
-        positions = new ArrayList<>();
-        
-        // First add positions in the specified order if they exist in our data
-        for (String position : orderedPositions) {
-            if (candidatesByPosition.containsKey(position)) {
-                positions.add(position);
-            }
-        }
-        
-        // Then add any remaining positions alphabetically
-        List<String> remainingPositions = new ArrayList<>(candidatesByPosition.keySet());
-        remainingPositions.removeAll(orderedPositions);
-        Collections.sort(remainingPositions);
-        positions.addAll(remainingPositions);
-        
-        // Create section for each position
-        for (String position : positions) {
-            // Get candidates for this position
-            List<CandidateDataLoader.Candidate> candidates = candidatesByPosition.get(position);
-            
-            // Sort candidates alphabetically by surname (last word in name)
-            candidates.sort((a, b) -> {
-                String nameA = a.getName().trim();
-                String nameB = b.getName().trim();
-                String surnameA = nameA.isEmpty() ? "" : nameA.substring(nameA.lastIndexOf(' ') + 1).toLowerCase();
-                String surnameB = nameB.isEmpty() ? "" : nameB.substring(nameB.lastIndexOf(' ') + 1).toLowerCase();
-                int cmp = surnameA.compareTo(surnameB);
-                if (cmp != 0) return cmp;
-                return nameA.compareToIgnoreCase(nameB);
-            });
-            
-            // Create position header
-            JPanel headerPanel = createPositionHeader(position, candidates.size());
-            contentPanel.add(headerPanel);
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 5))); // Minimal spacing
-            
-            // Store the header panel for scrolling
-            positionPanels.put(position, headerPanel);
-            
-            // Create grid panel for candidates
-            JPanel gridPanel = createCandidateGrid(candidates);
-            contentPanel.add(gridPanel);
-            
-            // Add minimal spacing between position sections
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        CandidateIndex index = CandidateIndex.get();
+        allCandidates = index.getCandidates();
+        
+        // Keep the raw-pixel avatar store in step with the candidate photos
+        AvatarStore.getInstance().updateAsync(allCandidates.stream()
+            .map(CandidateDataLoader.Candidate::getImagePath)
+            .collect(Collectors.toList()));
+        
+        // Candidates grouped by position in display order, each sorted by surname
+        Map<String, List<CandidateDataLoader.Candidate>> candidatesByPosition = index.getCandidatesByPosition();
+        positions = new ArrayList<>(candidatesByPosition.keySet());
+        groups = new ArrayList<>(candidatesByPosition.values());
+        
+        // Prefix-sum the group heights so a scroll offset maps to its group by binary search
+        groupOffsets = new int[groups.size()];
+        int y = CONTENT_PADDING;
+        for (int g = 0; g < groups.size(); g++) {
+            groupOffsets[g] = y;
+            y += getGroupHeight(groups.get(g).size());
         }
+        totalHeight = y + CONTENT_PADDING;
         
         // Force the content panel to calculate its proper size for scrolling
         ensureScrollingWorks();
         
+        // Build the headers and cells in view
+        updateVisibleItems();
+        
         // Update UI
         revalidate();
         repaint();
     }
     
+    /**
+     * Height of a position group: header, grid and the gap below it
+     */
+    private int getGroupHeight(int count) {
+        int rows = (int) Math.ceil((double) count / columns);
+        int gridHeight = rows * candidateCardSize.height + Math.max(0, rows - 1) * verticalGap;
+        return HEADER_HEIGHT + HEADER_GAP + gridHeight + GROUP_GAP;
+    }
+    
+    /**
+     * Find the group at a vertical offset in the list
+     */
+    private int getGroupAt(int y) {
+        int index = Arrays.binarySearch(groupOffsets, y);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+    
+    /**
+     * Build the headers and cells for the part of the list in view plus overscan, drop
+     * the rest and position them. The header of the group at the top of the view sticks
+     * there until the next group's header pushes it up.
+     */
+    private void updateVisibleItems() {
+        if (groups.isEmpty()) {
+            return;
+        }
+        
+        // Part of the list in view; before the first layout assume the panel's size at the top
+        Rectangle view = scrollPane.getViewport().getViewRect();
+        int viewWidth = view.width > 0 ? view.width : preferredPanelSize.width - 40;
+        int viewHeight = view.height > 0 ? view.height : preferredPanelSize.height;
+        int top = Math.max(0, view.y - OVERSCAN);
+        int bottom = view.y + viewHeight + OVERSCAN;
+        
+        // Cells stretch to fill the row, as in a grid layout
+        int innerWidth = Math.max(1, viewWidth - 2 * CONTENT_PADDING);
+        int cellWidth = Math.max(1, (innerWidth - (columns - 1) * horizontalGap) / columns);
+        int cellHeight = candidateCardSize.height;
+        int rowStride = cellHeight + verticalGap;
+        
+        Map<Integer, JPanel> previousHeaders = headerPanels;
+        Map<CandidateDataLoader.Candidate, JPanel> previousCells = cellPanels;
+        headerPanels = new HashMap<>();
+        cellPanels = new IdentityHashMap<>();
+        
+        for (int g = getGroupAt(top); g <= getGroupAt(bottom); g++) {
+            List<CandidateDataLoader.Candidate> candidates = groups.get(g);
+            int rows = (int) Math.ceil((double) candidates.size() / columns);
+            int gridTop = groupOffsets[g] + HEADER_HEIGHT + HEADER_GAP;
+            int groupEnd = (g + 1 < groupOffsets.length ? groupOffsets[g + 1] : totalHeight - CONTENT_PADDING) - GROUP_GAP;
+            
+            // Cells of the rows in view
+            int firstRow = Math.max(0, Math.floorDiv(top - gridTop, rowStride));
+            int lastRow = Math.min(rows - 1, Math.floorDiv(bottom - gridTop, rowStride));
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = 0; col < columns; col++) {
+                    int i = row * columns + col;
+                    if (i >= candidates.size()) {
+                        break;
+                    }
+                    CandidateDataLoader.Candidate candidate = candidates.get(i);
+                    JPanel cell = previousCells.remove(candidate);
+                    if (cell == null) {
+                        cell = createCandidatePanel(candidate);
+                        contentPanel.add(cell);
+                    }
+                    cellPanels.put(candidate, cell);
+                    cell.setBounds(CONTENT_PADDING + col * (cellWidth + horizontalGap), gridTop + row * rowStride,
+                                   cellWidth, cellHeight);
+                }
+            }
+            
+            // Header, kept above the cells so it covers them while stuck
+            JPanel header = previousHeaders.remove(g);
+            if (header == null) {
+                header = createPositionHeader(positions.get(g), candidates.size());
+                contentPanel.add(header, 0);
+            }
+            headerPanels.put(g, header);
+            int headerY = Math.max(groupOffsets[g], Math.min(view.y, groupEnd - HEADER_HEIGHT));
+            header.setBounds(CONTENT_PADDING, headerY, innerWidth, HEADER_HEIGHT);
+        }
+        
+        // Drop what scrolled out of range
+        for (JPanel header : previousHeaders.values()) {
+            contentPanel.remove(header);
+        }
+        for (JPanel cell : previousCells.values()) {
+            contentPanel.remove(cell);
+        }
+        
+        contentPanel.repaint();
+    }
+    
     /**
      * Ensure scrolling works by forcing the content panel to calculate its proper size
      */
@@ -278,41 +355,19 @@ public class CandidateListPanel extends JPanel {
         }
     }
     
-    /**
-     * Create a grid panel for candidates
-     */
-    private JPanel createCandidateGrid(List<CandidateDataLoader.Candidate> candidates) {
-        // Calculate rows needed
-        int rows = (int) Math.ceil((double) candidates.size() / columns);
-        
-        // Create panel with grid layout
-        JPanel gridPanel = new JPanel(new GridLayout(rows, columns, horizontalGap, verticalGap));
-        gridPanel.setOpaque(false);
-        
-        // Add candidates to grid
-        for (CandidateDataLoader.Candidate candidate : candidates) {
-            JPanel candidatePanel = createCandidatePanel(candidate);
-            gridPanel.add(candidatePanel);
-        }
-        
-        // Fill empty cells with blank panels to maintain grid structure
-        int emptyCells = (rows * columns) - candidates.size();
-        for (int i = 0; i < emptyCells; i++) {
-            JPanel emptyPanel = new JPanel();
-            emptyPanel.setOpaque(false);
-            gridPanel.add(emptyPanel);
-        }
-        
-        return gridPanel;
-    }
-    
     /**
      * Create a header panel for a position
      */
     private JPanel createPositionHeader(String position, int count) {
-        JPanel headerContainer = new JPanel(new BorderLayout());
+        JPanel headerContainer = new JPanel(new BorderLayout()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                // Solid so the cells scrolling under a stuck header don't show through
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, getWidth(), getHeight());
+            }
+        };
         headerContainer.setOpaque(false);
-        headerContainer.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40)); // Reduced from 70
         
         // Header panel for title
         JPanel headerPanel = new JPanel(new BorderLayout());
@@ -321,7 +376,7 @@ public class CandidateListPanel extends JPanel {
         
         // Position title
         JLabel positionLabel = new JLabel(position + " (" + count + ")");
-        positionLabel.setFont(interBlack.deriveFont(18f)); // Reduced from 24f
+        positionLabel.setFont(FontRegistry.derive(interBlack, 18f)); // Reduced from 24f
         positionLabel.setForeground(primaryBlue);
         headerPanel.add(positionLabel, BorderLayout.CENTER);
         
@@ -401,7 +456,7 @@ public class CandidateListPanel extends JPanel {
         
         // Create left panel for candidate image
         JPanel imagePanel = createCandidateImagePanel(candidate.getName(), candidate.getImagePath());
-        imagePanel.setPreferredSize(new Dimension(40, 40)); // Image size
+        imagePanel.setPreferredSize(new Dimension(AVATAR_SIZE, AVATAR_SIZE)); // Image size
         
         // Create a wrapper panel to center the image vertically but keep it left-aligned
         JPanel imageWrapper = new JPanel(new BorderLayout());
@@ -415,13 +470,13 @@ public class CandidateListPanel extends JPanel {
         
         // Candidate name
         JLabel nameLabel = new JLabel(candidate.getName());
-        nameLabel.setFont(interSemiBold.deriveFont(14f));
+        nameLabel.setFont(FontRegistry.derive(interSemiBold, 14f));
         nameLabel.setForeground(textColor);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Candidate party
         JLabel partyLabel = new JLabel(candidate.getParty());
-        partyLabel.setFont(interRegular.deriveFont(12f));
+        partyLabel.setFont(FontRegistry.derive(interRegular, 12f));
         partyLabel.setForeground(darkGray);
         partyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -448,108 +503,52 @@ public class CandidateListPanel extends JPanel {
     private JPanel createCandidateImagePanel(String candidateName, String imagePath) {
         // Create panel for circular image
         JPanel panel = new JPanel() {
-            // Cache for the circular image
-            private BufferedImage cachedImage = null;
-            private int lastWidth = 0;
-            private int lastHeight = 0;
-            
-            @Override
-            public void setBounds(int x, int y, int width, int height) {
-                if (width != lastWidth || height != lastHeight) {
-                    cachedImage = null;  // Reset cached image when size changes
-                    lastWidth = width;
-                    lastHeight = height;
-                }
-                super.setBounds(x, y, width, height);
-            }
+            // Photo or placeholder, requested on first paint; initials are shown until it arrives
+            private BufferedImage candidateImage = null;
+            private boolean imageRequested = false;
+            private Future<?> pendingImageLoad;
 
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
                 if (getWidth() <= 0 || getHeight() <= 0) return;
                 
-                // Create cached image if needed
-                if (cachedImage == null) {
-                    cachedImage = createCircularImage();
+                if (!imageRequested) {
+                    imageRequested = true;
+                    requestImage();
                 }
                 
-                // Draw the cached image
-                g.drawImage(cachedImage, 0, 0, null);
+                int diameter = Math.min(getWidth(), getHeight());
+                AvatarRenderer.paintAvatar(g, candidateImage, candidateName, diameter, cardBorder);
             }
             
-            /**
-             * Create a circular image for caching
-             */
-            private BufferedImage createCircularImage() {
-                BufferedImage result = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g2d = result.createGraphics();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Draw background as transparent
-                g2d.setComposite(AlphaComposite.Clear);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.setComposite(AlphaComposite.SrcOver);
-                
-                int diameter = Math.min(getWidth(), getHeight());
-                
-                // Get candidate image
-                BufferedImage candidateImage = getCandidateImage(candidateName, imagePath);
-                
+            private void requestImage() {
+                // Use the thumbnail right away if it is already loaded
+                candidateImage = ThumbnailCache.getInstance().getCachedThumbnail(imagePath, AVATAR_SIZE);
                 if (candidateImage != null) {
-                    // Create a circular clip
-                    Shape clip = new Ellipse2D.Double(0, 0, diameter, diameter);
-                    g2d.setClip(clip);
-                    
-                    // Calculate scaled image dimensions
-                    double scale = Math.max(
-                        (double) diameter / candidateImage.getWidth(),
-                        (double) diameter / candidateImage.getHeight()
-                    );
-                    
-                    int scaledWidth = (int) (candidateImage.getWidth() * scale);
-                    int scaledHeight = (int) (candidateImage.getHeight() * scale);
-                    
-                    // Draw image centered in the circle
-                    int x = (diameter - scaledWidth) / 2;
-                    int y = (diameter - scaledHeight) / 2;
-                    
-                    g2d.drawImage(candidateImage, x, y, scaledWidth, scaledHeight, null);
-                    
-                    // Reset clip and draw border
-                    g2d.setClip(null);
-                    g2d.setColor(cardBorder);
-                    g2d.setStroke(new BasicStroke(1));
-                    g2d.draw(clip);
-                } else {
-                    // If no image, draw a colored circle with initials
-                    g2d.setColor(getColorFromName(candidateName));
-                    g2d.fillOval(0, 0, diameter, diameter);
-                    
-                    // Draw initials
-                    String initials = getInitials(candidateName);
-                    g2d.setColor(Color.WHITE);
-                    
-                    // Use a simple font to avoid font loading overhead
-                    Font font = new Font(Font.SANS_SERIF, Font.BOLD, diameter / 3);
-                    g2d.setFont(font);
-                    
-                    // Center the text
-                    FontMetrics fm = g2d.getFontMetrics();
-                    int textWidth = fm.stringWidth(initials);
-                    int textHeight = fm.getHeight();
-                    int textX = (diameter - textWidth) / 2;
-                    int textY = (diameter - textHeight) / 2 + fm.getAscent();
-                    
-                    g2d.drawString(initials, textX, textY);
-                    
-                    // Draw border
-                    g2d.setColor(cardBorder);
-                    g2d.setStroke(new BasicStroke(1));
-                    g2d.drawOval(0, 0, diameter - 1, diameter - 1);
+                    return;
                 }
                 
-                g2d.dispose();
-                return result;
+                // Otherwise decode it in the background instead of on the EDT while scrolling
+                pendingImageLoad = ThumbnailCache.getInstance().getThumbnailAsync(imagePath, AVATAR_SIZE, image -> {
+                    pendingImageLoad = null;
+                    
+                    // If path is missing or the file can't be read, use a placeholder
+                    candidateImage = image != null ? image : createPlaceholderImage(candidateName);
+                    repaint();
+                });
+            }
+            
+            @Override
+            public void removeNotify() {
+                super.removeNotify();
+                
+                // The cell scrolled out of range; a new one is built if it comes back
+                if (pendingImageLoad != null) {
+                    pendingImageLoad.cancel(false);
+                    pendingImageLoad = null;
+                    imageRequested = false;
+                }
             }
         };
         
@@ -557,40 +556,6 @@ public class CandidateListPanel extends JPanel {
         return panel;
     }
     
-    /**
-     * Get or load candidate image from path or cache
-     */
-    private BufferedImage getCandidateImage(String candidateName, String imagePath) {
-        // Check if image is already in cache
-        if (candidateImageCache.containsKey(candidateName)) {
-            return candidateImageCache.get(candidateName);
-        }
-        
-        BufferedImage image = null;
-        
-        try {
-            // If path is null or empty, use a placeholder
-            if (imagePath == null || imagePath.trim().isEmpty()) {
-                image = createPlaceholderImage(candidateName);
-            } else {
-                // Try to load the image
-                File imageFile = new File(imagePath);
-                if (imageFile.exists()) {
-                    image = ImageIO.read(imageFile);
-                } else {
-                    image = createPlaceholderImage(candidateName);
-                }
-            }
-        } catch (IOException e) {
-            image = createPlaceholderImage(candidateName);
-        }
-        
-        // Cache the image
-        candidateImageCache.put(candidateName, image);
-        
-        return image;
-    }
-    
     /**
      * Create a placeholder image with the candidate's initials
      */
@@ -615,7 +580,7 @@ public class CandidateListPanel extends JPanel {
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
         // Create a colored background
-        Color bgColor = getColorFromName(candidateName);
+        Color bgColor = AvatarRenderer.getColorFromName(candidateName);
         g2d.setColor(bgColor);
         g2d.fillOval(0, 0, size, size);
         
@@ -623,7 +588,7 @@ public class CandidateListPanel extends JPanel {
         g2d.setColor(Color.WHITE);
         g2d.setFont(new Font("Sans-Serif", Font.BOLD, size / 3));
         
-        String initials = getInitials(candidateName);
+        String initials = AvatarRenderer.getInitials(candidateName);
         FontMetrics fm = g2d.getFontMetrics();
         int textWidth = fm.stringWidth(initials);
         int textHeight = fm.getHeight();
@@ -638,57 +603,6 @@ public class CandidateListPanel extends JPanel {
         return image;
     }
     
-    /**
-     * Get initials from a name (up to 2 characters)
-     */
-    private String getInitials(String name) {
-        if (name == null || name.isEmpty()) {
-            return "??";
-        }
-        
-        StringBuilder initials = new StringBuilder();
-        String[] parts = name.split("\\s+");
-        
-        // Get first letter of first name
-        if (parts.length > 0 && !parts[0].isEmpty()) {
-            initials.append(parts[0].charAt(0));
-        }
-        
-        // Get first letter of last name if available
-        if (parts.length > 1 && !parts[parts.length - 1].isEmpty()) {
-            initials.append(parts[parts.length - 1].charAt(0));
-        } else if (initials.length() < 2 && parts[0].length() > 1) {
-            // If only one name and initials is still short, use first two letters
-            initials.append(parts[0].charAt(1));
-        }
-        
-        return initials.toString().toUpperCase();
-    }
-    
-    /**
-     * Generate a consistent color based on the candidate's name
-     */
-    private Color getColorFromName(String name) {
-        if (name == null || name.isEmpty()) {
-            return new Color(0x2F, 0x39, 0x8E); // Default blue
-        }
-        
-        // Calculate a hash code for the name
-        int hash = name.hashCode();
-        
-        // Use different prime numbers for each color component
-        int r = Math.abs(hash % 256);
-        int g = Math.abs((hash / 256) % 256);
-        int b = Math.abs((hash / 65536) % 256);
-        
-        // Ensure the color isn't too light (for white text contrast)
-        r = Math.min(r, 180);
-        g = Math.min(g, 180);
-        b = Math.min(b, 180);
-        
-        return new Color(r, g, b);
-    }
-    
     /**
      * Set the panel's preferred size
      * @param width Panel width
@@ -764,4 +678,46 @@ public class CandidateListPanel extends JPanel {
         this.verticalGap = vertical;
         loadCandidateData(); // Reload with new spacing
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Holds only the headers and cells in view; its height comes from the group offsets
+     * and it always fills the viewport's width.
+     */
+    private class GroupedListView extends JPanel implements Scrollable {
+        GroupedListView() {
+            super(null);
+            setOpaque(false);
+        }
+        
+        @Override
+        public Dimension getPreferredSize() {
+            int width = columns * candidateCardSize.width + (columns - 1) * horizontalGap + 2 * CONTENT_PADDING;
+            return new Dimension(width, totalHeight);
+        }
+        
+        @Override
+        public Dimension getPreferredScrollableViewportSize() {
+            return getPreferredSize();
+        }
+        
+        @Override
+        public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return 16;
+        }
+        
+        @Override
+        public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        }
+        
+        @Override
+        public boolean getScrollableTracksViewportWidth() {
+            return true;
+        }
+        
+        @Override
+        public boolean getScrollableTracksViewportHeight() {
+            return false;
+        }
+    }
+}
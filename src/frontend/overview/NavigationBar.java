@@ -8,6 +8,7 @@ import java.util.function.Consumer;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collections;
+import util.FontRegistry;
 
 /**
  * A vertical navigation bar that displays buttons for each position category
@@ -65,7 +66,7 @@ public class NavigationBar extends JPanel {
         
         // Create title label
         JLabel titleLabel = new JLabel("Positions");
-        titleLabel.setFont(interSemiBold.deriveFont(16f));
+        titleLabel.setFont(FontRegistry.derive(interSemiBold, 16f));
         titleLabel.setForeground(primaryBlue);
         titleLabel.setHorizontalAlignment(SwingConstants.LEFT);
         titlePanel.add(titleLabel, BorderLayout.CENTER);
@@ -240,10 +241,10 @@ public class NavigationBar extends JPanel {
         
         // Set font and color based on selection state - always use interRegular except for selected
         if (position.equals(selectedPosition)) {
-            textArea.setFont(interSemiBold.deriveFont(14f)); // Selected items use semibold
+            textArea.setFont(FontRegistry.derive(interSemiBold, 14f)); // Selected items use semibold
             textArea.setForeground(primaryBlue);
         } else {
-            textArea.setFont(interRegular.deriveFont(14f)); // Non-selected items use regular
+            textArea.setFont(FontRegistry.derive(interRegular, 14f)); // Non-selected items use regular
             textArea.setForeground(textColor);
         }
         
@@ -275,10 +276,10 @@ public class NavigationBar extends JPanel {
                         
                         // Update font and color based on selection
                         if (position.equals(selectedPosition)) {
-                            textArea.setFont(interSemiBold.deriveFont(14f)); // Selected items use semibold
+                            textArea.setFont(FontRegistry.derive(interSemiBold, 14f)); // Selected items use semibold
                             textArea.setForeground(primaryBlue);
                         } else {
-                            textArea.setFont(interRegular.deriveFont(14f)); // Non-selected items use regular
+                            textArea.setFont(FontRegistry.derive(interRegular, 14f)); // Non-selected items use regular
                             textArea.setForeground(textColor);
                         }
                         
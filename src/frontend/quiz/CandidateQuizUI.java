@@ -12,7 +12,12 @@ import java.util.HashMap;
 import java.util.Map;
 import frontend.landingpage.LandingPageUI;
 import frontend.comparison.MinimalScrollBarUI;
+import frontend.utils.WindowRegistry;
 import frontend.utils.WindowTransitionManager;
+import util.BackdropCache;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.ScaledImageCache;
 
 /**
  * Candidate Quiz UI for the Gabay application
@@ -81,16 +86,8 @@ public class CandidateQuizUI extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                // Fill the background with white
-                g.setColor(Color.WHITE);
-                g.fillRect(0, 0, getWidth(), getHeight());
-                
                 // Draw background image with reduced opacity if enabled
                 if (backgroundImage != null && showBackgroundImage) {
-                    Graphics2D g2d = (Graphics2D)g;
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
-                                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    
                     // Calculate backdrop position, adjusting for window scaling
                     double widthScaleFactor = Math.min(1.0, getWidth() / (double)initialWindowWidth);
                     double heightScaleFactor = Math.min(1.0, getHeight() / (double)initialWindowHeight);
@@ -104,15 +101,13 @@ public class CandidateQuizUI extends JFrame {
                     int scaledWidth = (int)(BACKDROP_WIDTH * scaleFactor);
                     int scaledHeight = (int)(BACKDROP_HEIGHT * scaleFactor);
                     
-                    // Set the opacity to 3%
-                    AlphaComposite alphaComposite = AlphaComposite.getInstance(
-                        AlphaComposite.SRC_OVER, 0.03f);
-                    g2d.setComposite(alphaComposite);
-                    
-                    g2d.drawImage(backgroundImage, imageX, imageY, scaledWidth, scaledHeight, this);
-                    
-                    // Reset composite for other components
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+                    // White fill and faded backdrop are pre-rendered once per window size
+                    BackdropCache.paint(this, g, backgroundImage, Color.WHITE,
+                            imageX, imageY, scaledWidth, scaledHeight, 0.03f);
+                } else {
+                    // Fill the background with white
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, getWidth(), getHeight());
                 }
                 
                 // Draw title text at specified position
@@ -153,7 +148,7 @@ public class CandidateQuizUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    titleFont = titleFont.deriveFont(titleFontSize).deriveFont(attributes);
+                    titleFont = FontRegistry.derive(titleFont, titleFontSize).deriveFont(attributes);
                 } else {
                     titleFont = new Font("Sans-Serif", Font.BOLD, (int)(70 * widthScaleFactor));
                 }
@@ -173,7 +168,7 @@ public class CandidateQuizUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    paragraphFont = paragraphFont.deriveFont(paragraphFontSize).deriveFont(attributes);
+                    paragraphFont = FontRegistry.derive(paragraphFont, paragraphFontSize).deriveFont(attributes);
                 } else {
                     paragraphFont = new Font("Sans-Serif", Font.PLAIN, (int)(18 * widthScaleFactor));
                 }
@@ -260,9 +255,7 @@ public class CandidateQuizUI extends JFrame {
             int logoHeight = 40; // Height in pixels
             int logoWidth = (int)((double)headerLogoImage.getWidth() / headerLogoImage.getHeight() * logoHeight);
             
-            // Create scaled version of logo
-            Image scaledLogo = headerLogoImage.getScaledInstance(logoWidth, logoHeight, Image.SCALE_SMOOTH);
-            logoLabel.setIcon(new ImageIcon(scaledLogo));
+            logoLabel.setIcon(ScaledImageCache.getScaledIcon(headerLogoImage, logoWidth, logoHeight));
             
             // Make logo clickable to go back to landing page
             logoLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
@@ -271,7 +264,7 @@ public class CandidateQuizUI extends JFrame {
                 public void mouseClicked(MouseEvent e) {
                     // Redirect to LandingPageUI with fade transition
                     System.out.println("Redirecting to Landing Page...");
-                    WindowTransitionManager.fadeTransition(CandidateQuizUI.this, () -> new LandingPageUI());
+                    WindowTransitionManager.fadeTransition(CandidateQuizUI.this, WindowRegistry.reuse(LandingPageUI.class, LandingPageUI::new));
                 }
                 
                 @Override
@@ -297,7 +290,7 @@ public class CandidateQuizUI extends JFrame {
                 public void mouseClicked(MouseEvent e) {
                     // Redirect to LandingPageUI with fade transition
                     System.out.println("Redirecting to Landing Page...");
-                    WindowTransitionManager.fadeTransition(CandidateQuizUI.this, () -> new LandingPageUI());
+                    WindowTransitionManager.fadeTransition(CandidateQuizUI.this, WindowRegistry.reuse(LandingPageUI.class, LandingPageUI::new));
                 }
             });
         }
@@ -351,39 +344,32 @@ public class CandidateQuizUI extends JFrame {
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBoldFile.exists()) {
-                interBold = Font.createFont(Font.TRUETYPE_FONT, interBoldFile);
-                ge.registerFont(interBold);
+                interBold = FontRegistry.getFont(interBoldFile);
             } else {
                 interBold = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
@@ -400,15 +386,8 @@ public class CandidateQuizUI extends JFrame {
     }
     
     private void loadBackgroundImage() {
-        try {
-            File imageFile = new File("resources/images/Landing-Backdrop.png");
-            if (imageFile.exists()) {
-                backgroundImage = ImageIO.read(imageFile);
-            } else {
-                createFallbackImage();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        backgroundImage = BackdropCache.getBackdropImage();
+        if (backgroundImage == null) {
             createFallbackImage();
         }
     }
@@ -426,46 +405,10 @@ public class CandidateQuizUI extends JFrame {
     }
     
     private void loadHeaderLogoImage() {
-        try {
-            // Try to load the header logo image from the specific path
-            File logoFile = new File("resources/images/Candidate Search/HeaderLogo.png");
-            if (logoFile.exists()) {
-                headerLogoImage = ImageIO.read(logoFile);
-                System.out.println("Header logo loaded successfully from: " + logoFile.getAbsolutePath());
-            } else {
-                System.out.println("Header logo file not found at: " + logoFile.getAbsolutePath());
-                
-                // Try alternative locations as backup
-                String[] alternativePaths = {
-                    "resources/images/HeaderLogo.png",
-                    "HeaderLogo.png",
-                    "images/HeaderLogo.png",
-                    "images/Candidate Search/HeaderLogo.png",
-                    "../resources/images/Candidate Search/HeaderLogo.png"
-                };
-                
-                for (String path : alternativePaths) {
-                    File altFile = new File(path);
-                    if (altFile.exists()) {
-                        headerLogoImage = ImageIO.read(altFile);
-                        System.out.println("Header logo loaded from alternative path: " + altFile.getAbsolutePath());
-                        break;
-                    }
-                }
-            }
-            
-            // If still couldn't find the logo, create a blank image
-            if (headerLogoImage == null) {
-                headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g = headerLogoImage.createGraphics();
-                g.setColor(new Color(0, 0, 0, 0)); // Transparent
-                g.fillRect(0, 0, 150, 40);
-                g.dispose();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            
-            // Create blank image even after exception
+        headerLogoImage = IconAtlas.getIcon("Candidate Search/HeaderLogo.png");
+        
+        // If still couldn't find the logo, create a blank image
+        if (headerLogoImage == null) {
             headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
             Graphics2D g = headerLogoImage.createGraphics();
             g.setColor(new Color(0, 0, 0, 0)); // Transparent
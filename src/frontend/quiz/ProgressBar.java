@@ -7,6 +7,7 @@ import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.IOException;
+import util.IconAtlas;
 
 /**
  * Custom progress bar for quiz questions
@@ -76,33 +77,10 @@ public class ProgressBar extends JPanel {
      * Load the progress head image
      */
     private void loadProgressHeadImage() {
-        try {
-            // Try to load directly from resources/images folder
-            File imageFile = new File("resources/images/progress_hea.png");
-            if (imageFile.exists()) {
-                progressHeadImage = ImageIO.read(imageFile);
-                return;
-            }
-            
-            // If not found, try alternative paths
-            String[] alternativePaths = {
-                "resources/images/quiz/progress_hea.png",
-                "lib/images/progress_hea.png",
-                "../resources/images/progress_hea.png"
-            };
-            
-            for (String path : alternativePaths) {
-                File altFile = new File(path);
-                if (altFile.exists()) {
-                    progressHeadImage = ImageIO.read(altFile);
-                    return;
-                }
-            }
-            
-            // If still null, create a default image
-            createDefaultHeadImage();
-        } catch (IOException e) {
-            System.err.println("Error loading progress head image: " + e.getMessage());
+        progressHeadImage = IconAtlas.getIcon("progress_hea.png");
+        
+        // If not found, create a default image
+        if (progressHeadImage == null) {
             createDefaultHeadImage();
         }
     }
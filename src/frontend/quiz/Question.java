@@ -5,11 +5,18 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import backend.model.AdaptiveQuestionSelector;
+import backend.model.StanceMatchIndex;
+import backend.model.StanceMatchIndex.Stance;
+import backend.model.StanceTopicDictionary;
+import util.FontRegistry;
+import util.ResourcePack;
+
 /**
  * Question component for the Candidate Quiz
  * This component displays a question with agree/disagree/neutral options
@@ -34,10 +41,12 @@ public class Question extends JPanel {
     
     // Questions
     private List<String> questions = new ArrayList<>();
+    private List<String> questionTopics = new ArrayList<>();
     private int currentQuestionIndex = 0;
     
     // UI Components
     private JLabel questionLabel;
+    private JLabel liveMatchesLabel;
     private JButton agreeButton;
     private JButton neutralButton;
     private JButton disagreeButton;
@@ -50,16 +59,36 @@ public class Question extends JPanel {
     // Question response tracking
     private List<String> responses = new ArrayList<>();
     
+    // Match counts updated after every answer
+    private StanceMatchIndex.RunningScores liveScores;
+    
+    // Adaptive mode asks the most informative question next and may stop early
+    private boolean adaptiveMode;
+    private AdaptiveQuestionSelector selector;
+    private List<Integer> askedQuestionIndices = new ArrayList<>();
+    
     // Callback for when quiz is completed
     private Runnable onQuizCompleted;
     
     public Question() {
+        this(false);
+    }
+    
+    /**
+     * @param adaptiveMode Pick questions by information gain and stop once the top matches are settled
+     */
+    public Question(boolean adaptiveMode) {
+        this.adaptiveMode = adaptiveMode;
+        
         // Load fonts
         loadFonts();
         
         // Load questions
         loadQuestions();
         
+        // Start with empty running scores
+        startScoring();
+        
         // Set up panel properties
         setOpaque(false);
         setLayout(new BorderLayout());
@@ -79,124 +108,41 @@ public class Question extends JPanel {
      * Load fonts used in the UI
      */
     private void loadFonts() {
-        interRegular = new Font("Inter", Font.PLAIN, 14);
-        interMedium = new Font("Inter", Font.PLAIN, 14);
-        interSemiBold = new Font("Inter", Font.BOLD, 16);
+        Font regular = FontRegistry.getInter(FontRegistry.REGULAR);
+        Font medium = FontRegistry.getInter(FontRegistry.MEDIUM);
+        Font semiBold = FontRegistry.getInter(FontRegistry.SEMI_BOLD);
         
-        try {
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            Font[] fonts = ge.getAllFonts();
-            
-            for (Font font : fonts) {
-                String fontName = font.getFontName().toLowerCase();
-                if (fontName.contains("inter")) {
-                    if (fontName.contains("regular") || fontName.contains("normal")) {
-                        interRegular = font.deriveFont(14f);
-                    } else if (fontName.contains("medium")) {
-                        interMedium = font.deriveFont(14f);
-                    } else if (fontName.contains("semibold") || fontName.contains("semi bold") || fontName.contains("semi-bold")) {
-                        interSemiBold = font.deriveFont(16f);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading custom fonts: " + e.getMessage());
-        }
+        interRegular = regular != null ? FontRegistry.derive(regular, 14f) : new Font("Inter", Font.PLAIN, 14);
+        interMedium = medium != null ? FontRegistry.derive(medium, 14f) : new Font("Inter", Font.PLAIN, 14);
+        interSemiBold = semiBold != null ? FontRegistry.derive(semiBold, 16f) : new Font("Inter", Font.BOLD, 16);
     }
     
     /**
      * Load questions from file
      */
     private void loadQuestions() {
-        try (BufferedReader reader = new BufferedReader(new FileReader("resources/data/quizquestions.txt"))) {
+        try (BufferedReader reader = ResourcePack.openReader(new File("resources/data/quizquestions.txt"))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (!line.trim().isEmpty()) {
-                    // Normalize question to make it easier to match with candidate stances
-                    line = normalizeQuestion(line.trim());
-                    questions.add(line);
+                    questions.add(line.trim());
                 }
             }
+            
+            // Resolve stance topics once so answers can be scored as they come in
+            StanceTopicDictionary dictionary = StanceTopicDictionary.getInstance();
+            for (String question : questions) {
+                questionTopics.add(dictionary.resolveTopic(question));
+            }
             System.out.println("Loaded " + questions.size() + " questions");
         } catch (IOException e) {
             System.err.println("Error loading questions: " + e.getMessage());
             // Add a default question in case file loading fails
             questions.add("Do you support this policy?");
+            questionTopics.add(null);
         }
     }
     
-    /**
-     * Normalize question text to ensure consistent matching with candidate stances
-     */
-    private String normalizeQuestion(String question) {
-        // Convert to lowercase for consistent matching
-        String normalized = question.toLowerCase();
-        
-        // Replace common synonyms and related terms
-        if (normalized.contains("legalization of divorce") || 
-            normalized.contains("allow divorce") || 
-            normalized.contains("divorce law")) {
-            return "Do you support the legalization of divorce in the Philippines?";
-        } else if (normalized.contains("sogie") || 
-                  normalized.contains("sexual orientation") || 
-                  normalized.contains("gender identity") || 
-                  normalized.contains("gender expression") || 
-                  normalized.contains("equality bill") ||
-                  normalized.contains("lgbtq rights")) {
-            return "Do you agree with passing the SOGIE Equality Bill?";
-        } else if (normalized.contains("death penalty") || 
-                  normalized.contains("capital punishment") || 
-                  normalized.contains("execution for crimes")) {
-            return "Should the death penalty be reinstated in the Philippines?";
-        } else if (normalized.contains("criminal responsibility") || 
-                  normalized.contains("juvenile justice") || 
-                  normalized.contains("youth offenders") ||
-                  normalized.contains("minor criminals")) {
-            return "Do you support lowering the age of criminal responsibility?";
-        } else if (normalized.contains("federalism") || 
-                  normalized.contains("federal government") || 
-                  normalized.contains("federal system")) {
-            return "Are you in favor of federalism as a form of government?";
-        } else if (normalized.contains("rotc") || 
-                  normalized.contains("reserve officers") || 
-                  normalized.contains("military training") ||
-                  normalized.contains("mandatory training")) {
-            return "Should mandatory ROTC be implemented for senior high school students?";
-        } else if (normalized.contains("same-sex marriage") || 
-                  normalized.contains("same sex marriage") || 
-                  normalized.contains("gay marriage") || 
-                  normalized.contains("lgbtq marriage")) {
-            return "Do you agree with same-sex marriage being legalized?";
-        } else if (normalized.contains("anti-terror") || 
-                  normalized.contains("anti terror") || 
-                  normalized.contains("terrorism") || 
-                  normalized.contains("security law")) {
-            return "Do you support the Anti-Terror Law?";
-        } else if (normalized.contains("foreign investment") && normalized.contains("land")) {
-            return "Should foreign investment in land ownership be allowed?";
-        } else if (normalized.contains("healthcare") || 
-                  normalized.contains("medical care") || 
-                  normalized.contains("health insurance") ||
-                  normalized.contains("universal healthcare")) {
-            return "Do you agree with universal healthcare funding?";
-        } else if (normalized.contains("sex education") || 
-                  normalized.contains("sexual education") ||
-                  normalized.contains("sex ed")) {
-            return "Should mandatory sex education be implemented in schools?";
-        } else if (normalized.contains("minimum wage") || 
-                  normalized.contains("salary standard") || 
-                  normalized.contains("wage standardization")) {
-            return "Do you support the standardization of minimum wage across regions?";
-        } else if (normalized.contains("jeepney modernization") || 
-                  normalized.contains("public transport") || 
-                  normalized.contains("transport modernization")) {
-            return "Should the Jeepney Modernization Program be pursued?";
-        }
-        
-        // If no match found, return the original question
-        return question;
-    }
-    
     /**
      * Initialize UI components
      */
@@ -214,7 +160,7 @@ public class Question extends JPanel {
         
         // Question label
         questionLabel = new JLabel();
-        questionLabel.setFont(interSemiBold.deriveFont(24f));
+        questionLabel.setFont(FontRegistry.derive(interSemiBold, 24f));
         questionLabel.setForeground(textColor);
         questionLabel.setHorizontalAlignment(SwingConstants.CENTER);
         questionLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 30, 0));
@@ -223,9 +169,16 @@ public class Question extends JPanel {
         progressBar = new ProgressBar();
         progressBar.setProgress(currentQuestionIndex, questions.size());
         
+        // Live top matches strip, filled in as answers come in
+        liveMatchesLabel = new JLabel(" ");
+        liveMatchesLabel.setFont(FontRegistry.derive(interRegular, 13f));
+        liveMatchesLabel.setForeground(neutralGray);
+        liveMatchesLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        
         // Add to question panel
         questionPanel.add(progressBar, BorderLayout.NORTH);
         questionPanel.add(questionLabel, BorderLayout.CENTER);
+        questionPanel.add(liveMatchesLabel, BorderLayout.SOUTH);
         
         // Create buttons panel
         JPanel buttonsPanel = new JPanel();
@@ -312,7 +265,7 @@ public class Question extends JPanel {
         };
         
         // Set button properties
-        button.setFont(interSemiBold.deriveFont(16f));
+        button.setFont(FontRegistry.derive(interSemiBold, 16f));
         button.setFocusPainted(false);
         button.setBorderPainted(false);
         button.setContentAreaFilled(false);
@@ -323,11 +276,19 @@ public class Question extends JPanel {
         button.addActionListener(e -> {
             String response = text;
             responses.add(response);
+            askedQuestionIndices.add(currentQuestionIndex);
             System.out.println("Question " + (currentQuestionIndex + 1) + ": " + response);
             
-            // Move to next question or complete quiz
-            currentQuestionIndex++;
-            if (currentQuestionIndex < questions.size()) {
+            // Score the answer and move to the next question or complete quiz
+            if (adaptiveMode) {
+                selector.recordAnswer(currentQuestionIndex, Stance.parse(response));
+                currentQuestionIndex = selector.nextQuestion();
+            } else {
+                liveScores.addAnswer(questionTopics.get(currentQuestionIndex), Stance.parse(response));
+                currentQuestionIndex++;
+            }
+            
+            if (currentQuestionIndex >= 0 && currentQuestionIndex < questions.size()) {
                 updateQuestion();
             } else {
                 completeQuiz();
@@ -341,27 +302,50 @@ public class Question extends JPanel {
      * Update the question display
      */
     private void updateQuestion() {
-        if (currentQuestionIndex < questions.size()) {
+        if (currentQuestionIndex >= 0 && currentQuestionIndex < questions.size()) {
             String questionText = questions.get(currentQuestionIndex);
             questionLabel.setText("<html><div style='text-align: center; width: 500px;'>" + 
                                  questionText + "</div></html>");
             
             // Update progress bar instead of progress label
-            progressBar.setProgress(currentQuestionIndex, questions.size());
+            progressBar.setProgress(responses.size(), questions.size());
+            
+            // Show the current leaders
+            updateLiveMatches();
             
             // Debug output
             System.out.println("Displaying question " + (currentQuestionIndex + 1) + ": " + questionText);
         }
     }
     
+    /**
+     * Update the live top matches strip from the running scores
+     */
+    private void updateLiveMatches() {
+        if (liveScores.getAnsweredCount() == 0) {
+            liveMatchesLabel.setText(" ");
+            return;
+        }
+        
+        StringBuilder names = new StringBuilder();
+        for (int index : liveScores.top(3)) {
+            if (names.length() > 0) {
+                names.append("  \u2022  ");
+            }
+            names.append(liveScores.getIndex().getCandidate(index).getName());
+        }
+        liveMatchesLabel.setText(names.length() > 0 ? "Current top matches: " + names : " ");
+    }
+    
     /**
      * Complete the quiz and notify listener
      */
     private void completeQuiz() {
         System.out.println("Quiz completed!");
         // Print all responses
-        for (int i = 0; i < questions.size(); i++) {
-            System.out.println("Q" + (i + 1) + ": " + questions.get(i));
+        List<String> askedQuestions = getQuestions();
+        for (int i = 0; i < askedQuestions.size(); i++) {
+            System.out.println("Q" + (i + 1) + ": " + askedQuestions.get(i));
             System.out.println("A" + (i + 1) + ": " + responses.get(i));
         }
         
@@ -423,18 +407,50 @@ public class Question extends JPanel {
     }
     
     /**
-     * Get the list of questions
+     * Get the running match scores for the answers given so far
+     */
+    public StanceMatchIndex.RunningScores getLiveScores() {
+        return liveScores;
+    }
+    
+    /**
+     * Get the list of questions, in the order they were asked when in adaptive mode
      */
     public List<String> getQuestions() {
-        return questions;
+        if (!adaptiveMode) {
+            return questions;
+        }
+        
+        List<String> askedQuestions = new ArrayList<>();
+        for (int index : askedQuestionIndices) {
+            askedQuestions.add(questions.get(index));
+        }
+        return askedQuestions;
     }
     
     /**
      * Reset questions to start the quiz over
      */
     public void resetQuestions() {
-        currentQuestionIndex = 0;
         responses.clear();
+        
+        // Pick up the latest data snapshot for the next attempt
+        startScoring();
         updateQuestion();
     }
+    
+    /**
+     * Create fresh running scores and choose the first question
+     */
+    private void startScoring() {
+        liveScores = StanceMatchIndex.getInstance().newRunningScores();
+        askedQuestionIndices.clear();
+        
+        if (adaptiveMode) {
+            selector = new AdaptiveQuestionSelector(liveScores, questionTopics, 5);
+            currentQuestionIndex = selector.nextQuestion();
+        } else {
+            currentQuestionIndex = 0;
+        }
+    }
 } 
\ No newline at end of file
@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import util.FontRegistry;
 
 /**
  * QuizArea component for the Candidate Quiz
@@ -165,8 +166,8 @@ public class QuizArea extends JPanel {
             startTransition(QUESTION_PANEL);
         });
         
-        // Create Question component
-        question = new Question();
+        // Create Question component, adaptive when the kiosk enables it
+        question = new Question(Boolean.getBoolean("gabay.quiz.adaptive"));
         
         // Set callback for when quiz is completed
         question.setOnQuizCompleted(() -> {
@@ -174,7 +175,7 @@ public class QuizArea extends JPanel {
             System.out.println("Quiz completed! Showing results...");
             
             // Pass quiz data to results panel
-            results.setQuizData(question.getQuestions(), question.getResponses());
+            results.setQuizData(question.getQuestions(), question.getResponses(), question.getLiveScores());
             
             // Start transition to results panel
             startTransition(RESULTS_PANEL);
@@ -277,32 +278,26 @@ public class QuizArea extends JPanel {
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             File interSemiBoldFile = new File("lib/fonts/Inter_18pt-SemiBold.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import frontend.comparison.MinimalScrollBarUI;
+import util.FontRegistry;
 
 /**
  * QuizStart component for the Candidate Quiz
@@ -102,7 +103,7 @@ public class QuizStart extends JPanel {
         
         // Update button font if it exists
         if (startButton != null && interSemiBold != null) {
-            startButton.setFont(interSemiBold.deriveFont(buttonFontSize));
+            startButton.setFont(FontRegistry.derive(interSemiBold, buttonFontSize));
         }
         
         repaint();
@@ -252,7 +253,7 @@ public class QuizStart extends JPanel {
         this.buttonFontSize = buttonSize;
         
         if (startButton != null) {
-            startButton.setFont(interSemiBold.deriveFont(buttonFontSize));
+            startButton.setFont(FontRegistry.derive(interSemiBold, buttonFontSize));
         }
         
         repaint();
@@ -295,7 +296,7 @@ public class QuizStart extends JPanel {
     
     private void createStartButton() {
         startButton = new JButton(buttonText);
-        startButton.setFont(interSemiBold.deriveFont(buttonFontSize));
+        startButton.setFont(FontRegistry.derive(interSemiBold, buttonFontSize));
         startButton.setForeground(primaryRed); // Default color same as outline (non-hover state)
         startButton.setBackground(new Color(0, 0, 0, 0)); // Transparent background
         startButton.setFocusPainted(false);
@@ -386,7 +387,7 @@ public class QuizStart extends JPanel {
         if (interMedium != null) {
             Map<TextAttribute, Object> attributes = new HashMap<>();
             attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-            Font welcomeFont = interMedium.deriveFont(welcomeFontSize).deriveFont(attributes);
+            Font welcomeFont = FontRegistry.derive(interMedium, welcomeFontSize).deriveFont(attributes);
             
             g2d.setFont(welcomeFont);
             g2d.setColor(headingColor);
@@ -402,7 +403,7 @@ public class QuizStart extends JPanel {
         if (interBlack != null) {
             Map<TextAttribute, Object> attributes = new HashMap<>();
             attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-            Font titleFont = interBlack.deriveFont(titleFontSize).deriveFont(attributes);
+            Font titleFont = FontRegistry.derive(interBlack, titleFontSize).deriveFont(attributes);
             
             g2d.setFont(titleFont);
             g2d.setColor(primaryRed);
@@ -479,7 +480,7 @@ public class QuizStart extends JPanel {
                 }
                 
                 // Create the font with correct size
-                Font buttonFont = interSemiBold.deriveFont(scaledFontSize);
+                Font buttonFont = FontRegistry.derive(interSemiBold, scaledFontSize);
                 g2d.setFont(buttonFont);
                 
                 // Calculate text position
@@ -509,32 +510,26 @@ public class QuizStart extends JPanel {
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             File interSemiBoldFile = new File("lib/fonts/Inter_18pt-SemiBold.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
@@ -4,15 +4,16 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import backend.model.Candidate;
+import backend.model.StanceMatchIndex;
+import backend.model.StanceMatchIndex.Stance;
+import backend.model.StanceTopicDictionary;
 import frontend.comparison.MinimalScrollBarUI;
+import util.FontRegistry;
 
 /**
  * Results component for the Candidate Quiz
@@ -99,32 +100,15 @@ public class Results extends JPanel {
      * Load fonts used in the UI
      */
     private void loadFonts() {
-        interRegular = new Font("Inter", Font.PLAIN, 14);
-        interMedium = new Font("Inter", Font.PLAIN, 14);
-        interSemiBold = new Font("Inter", Font.BOLD, 16);
-        interBold = new Font("Inter", Font.BOLD, 18);
-        
-        try {
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            Font[] fonts = ge.getAllFonts();
-            
-            for (Font font : fonts) {
-                String fontName = font.getFontName().toLowerCase();
-                if (fontName.contains("inter")) {
-                    if (fontName.contains("regular") || fontName.contains("normal")) {
-                        interRegular = font.deriveFont(14f);
-                    } else if (fontName.contains("medium")) {
-                        interMedium = font.deriveFont(14f);
-                    } else if (fontName.contains("semibold") || fontName.contains("semi bold") || fontName.contains("semi-bold")) {
-                        interSemiBold = font.deriveFont(16f);
-                    } else if (fontName.contains("bold") && !fontName.contains("semi")) {
-                        interBold = font.deriveFont(18f);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading custom fonts: " + e.getMessage());
-        }
+        Font regular = FontRegistry.getInter(FontRegistry.REGULAR);
+        Font medium = FontRegistry.getInter(FontRegistry.MEDIUM);
+        Font semiBold = FontRegistry.getInter(FontRegistry.SEMI_BOLD);
+        Font bold = FontRegistry.getInter(FontRegistry.BOLD);
+        
+        interRegular = regular != null ? FontRegistry.derive(regular, 14f) : new Font("Inter", Font.PLAIN, 14);
+        interMedium = medium != null ? FontRegistry.derive(medium, 14f) : new Font("Inter", Font.PLAIN, 14);
+        interSemiBold = semiBold != null ? FontRegistry.derive(semiBold, 16f) : new Font("Inter", Font.BOLD, 16);
+        interBold = bold != null ? FontRegistry.derive(bold, 18f) : new Font("Inter", Font.BOLD, 18);
     }
     
     /**
@@ -139,7 +123,7 @@ public class Results extends JPanel {
         
         // Title
         titleLabel = new JLabel("Your Candidate Matches");
-        titleLabel.setFont(interBold.deriveFont(28f));
+        titleLabel.setFont(FontRegistry.derive(interBold, 28f));
         titleLabel.setForeground(primaryBlue);
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
         titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
@@ -237,7 +221,7 @@ public class Results extends JPanel {
         };
         
         // Set button properties
-        button.setFont(interSemiBold.deriveFont(16f));
+        button.setFont(FontRegistry.derive(interSemiBold, 16f));
         button.setFocusPainted(false);
         button.setBorderPainted(false);
         button.setContentAreaFilled(false);
@@ -251,11 +235,19 @@ public class Results extends JPanel {
      * Set quiz data and calculate matches
      */
     public void setQuizData(List<String> questions, List<String> userResponses) {
+        setQuizData(questions, userResponses, null);
+    }
+    
+    /**
+     * Set quiz data using match scores that were already computed while the quiz was running
+     */
+    public void setQuizData(List<String> questions, List<String> userResponses,
+                            StanceMatchIndex.RunningScores liveScores) {
         this.questions = questions;
         this.userResponses = userResponses;
         
         // Calculate matching candidates
-        calculateMatches();
+        calculateMatches(liveScores);
         
         // Populate UI with matching candidates
         populateCandidateMatches();
@@ -264,370 +256,44 @@ public class Results extends JPanel {
     /**
      * Calculate matching candidates based on quiz responses
      */
-    private void calculateMatches() {
+    private void calculateMatches(StanceMatchIndex.RunningScores liveScores) {
         matchingCandidates = new ArrayList<>();
         
-        // Load candidates from file
-        List<Candidate> candidates = loadCandidates();
-        
-        // For each candidate, calculate match percentage based on their social stances
-        for (Candidate candidate : candidates) {
-            List<Integer> matchingIndices = new ArrayList<>();
-            Map<String, String> candidateStances = getCandidateStances(candidate.getName());
-            
-            // Map quiz questions to social stance topics
-            Map<String, Integer> questionToStanceMap = createQuestionToStanceMap();
-            
-            // Determine which questions match with this candidate
-            for (int i = 0; i < userResponses.size() && i < questions.size(); i++) {
-                String question = questions.get(i);
-                String userResponse = userResponses.get(i);
-                
-                // Get the corresponding stance for this question
-                String stanceTopic = getStanceTopicForQuestion(question, questionToStanceMap);
-                
-                if (stanceTopic != null && candidateStances.containsKey(stanceTopic)) {
-                    String candidateStance = candidateStances.get(stanceTopic);
-                    
-                    // Check if user response matches candidate stance or has similar meaning
-                    if (responsesAlign(userResponse, candidateStance)) {
-                        matchingIndices.add(i);
-                    }
-                }
-            }
-            
-            // Calculate match percentage
-            double matchPercentage = userResponses.isEmpty() ? 0 : 
-                    (double) matchingIndices.size() / userResponses.size();
-            
-            // Create candidate match object
-            CandidateMatch match = new CandidateMatch(candidate, matchPercentage, matchingIndices);
-            matchingCandidates.add(match);
-        }
-        
-        // Sort by match percentage (highest first)
-        matchingCandidates.sort((a, b) -> Double.compare(b.matchPercentage, a.matchPercentage));
-        
-        // Limit to top 5 matches
-        if (matchingCandidates.size() > 5) {
-            matchingCandidates = matchingCandidates.subList(0, 5);
-        }
-    }
-    
-    /**
-     * Create a mapping between quiz questions and candidate stance topics
-     */
-    private Map<String, Integer> createQuestionToStanceMap() {
-        Map<String, Integer> map = new HashMap<>();
-        
-        // Map questions to stance topics based on keywords
-        for (int i = 0; i < questions.size(); i++) {
-            String question = questions.get(i).toLowerCase();
-            
-            if (question.contains("divorce")) {
-                map.put("Legalization of Divorce", i);
-            } else if (question.contains("sogie")) {
-                map.put("Passing the SOGIE Equality Bill", i);
-            } else if (question.contains("death penalty") || question.contains("reinstating the death penalty")) {
-                map.put("Reinstating the Death Penalty", i);
-            } else if (question.contains("criminal responsibility")) {
-                map.put("Lowering the Age of Criminal Responsibility", i);
-            } else if (question.contains("federalism")) {
-                map.put("Federalism", i);
-            } else if (question.contains("rotc")) {
-                map.put("Mandatory ROTC for Senior High Students", i);
-            } else if (question.contains("same-sex marriage") || question.contains("same sex marriage")) {
-                map.put("Same-Sex Marriage", i);
-            } else if (question.contains("anti-terror") || question.contains("anti terror")) {
-                map.put("Anti-Terror Law", i);
-            } else if (question.contains("foreign investment") && question.contains("land")) {
-                map.put("Foreign Investment in Land Ownership", i);
-            } else if (question.contains("healthcare") && question.contains("universal")) {
-                map.put("Universal Healthcare Funding", i);
-            } else if (question.contains("sex education")) {
-                map.put("Mandatory Sex Education", i);
-            } else if (question.contains("minimum wage")) {
-                map.put("Minimum Wage Standardization", i);
-            } else if (question.contains("jeepney modernization")) {
-                map.put("Jeepney Modernization Program", i);
-            }
-        }
-        
-        return map;
-    }
-    
-    /**
-     * Get the stance topic corresponding to a question
-     */
-    private String getStanceTopicForQuestion(String question, Map<String, Integer> questionToStanceMap) {
-        question = question.toLowerCase();
-        
-        // Look for direct matches first
-        for (Map.Entry<String, Integer> entry : questionToStanceMap.entrySet()) {
-            if (entry.getValue() == questions.indexOf(question)) {
-                return entry.getKey();
-            }
-        }
-        
-        // Expanded keyword matcher for better flexibility
-        
-        // Divorce-related terms
-        if (question.contains("divorce") || 
-            question.contains("marital separation") || 
-            question.contains("end of marriage") || 
-            question.contains("marriage dissolution") ||
-            question.contains("annulment") ||
-            question.contains("legal separation")) {
-            return "Legalization of Divorce";
-        } 
-        // SOGIE-related terms
-        else if (question.contains("sogie") || 
-                question.contains("sexual orientation") || 
-                question.contains("gender identity") || 
-                question.contains("gender expression") || 
-                question.contains("equality bill") ||
-                question.contains("lgbtq") ||
-                question.contains("lgbt") ||
-                question.contains("sexual discrimination") ||
-                question.contains("gender equality")) {
-            return "Passing the SOGIE Equality Bill";
-        } 
-        // Death penalty-related terms
-        else if (question.contains("death penalty") || 
-                question.contains("capital punishment") || 
-                question.contains("execution") ||
-                question.contains("lethal injection") ||
-                question.contains("death sentence") ||
-                question.contains("capital offense")) {
-            return "Reinstating the Death Penalty";
-        } 
-        // Criminal responsibility-related terms
-        else if (question.contains("criminal responsibility") || 
-                question.contains("juvenile justice") || 
-                question.contains("youth offenders") ||
-                question.contains("juvenile delinquency") ||
-                question.contains("child offenders") ||
-                question.contains("underage crime") ||
-                question.contains("minor offenders")) {
-            return "Lowering the Age of Criminal Responsibility";
-        } 
-        // Federalism-related terms
-        else if (question.contains("federalism") || 
-                question.contains("federal government") || 
-                question.contains("federal system") ||
-                question.contains("autonomous regions") ||
-                question.contains("decentralization") ||
-                question.contains("local autonomy")) {
-            return "Federalism";
-        } 
-        // ROTC-related terms
-        else if (question.contains("rotc") || 
-                question.contains("reserve officers") || 
-                question.contains("military training") ||
-                question.contains("cadet") ||
-                question.contains("military service education") ||
-                question.contains("military preparation") ||
-                question.contains("compulsory military training")) {
-            return "Mandatory ROTC for Senior High Students";
-        } 
-        // Same-sex marriage-related terms
-        else if (question.contains("same-sex") || 
-                question.contains("same sex") || 
-                question.contains("gay marriage") || 
-                question.contains("lgbtq marriage") ||
-                question.contains("marriage equality") ||
-                question.contains("homosexual marriage") ||
-                question.contains("equal marriage rights")) {
-            return "Same-Sex Marriage";
-        } 
-        // Anti-Terror Law-related terms
-        else if (question.contains("anti-terror") || 
-                question.contains("anti terror") || 
-                question.contains("terrorism") || 
-                question.contains("security law") ||
-                question.contains("counter-terrorism") ||
-                question.contains("terror prevention") ||
-                question.contains("national security")) {
-            return "Anti-Terror Law";
-        } 
-        // Foreign investment in land-related terms
-        else if ((question.contains("foreign") || question.contains("international") || question.contains("overseas")) && 
-                (question.contains("land") || question.contains("property") || question.contains("real estate")) &&
-                (question.contains("ownership") || question.contains("investment") || question.contains("purchase"))) {
-            return "Foreign Investment in Land Ownership";
-        } 
-        // Healthcare-related terms
-        else if (question.contains("healthcare") || 
-                question.contains("medical care") || 
-                question.contains("health insurance") ||
-                question.contains("universal health") ||
-                question.contains("medical coverage") ||
-                question.contains("health services") ||
-                question.contains("philhealth")) {
-            return "Universal Healthcare Funding";
-        } 
-        // Sex education-related terms
-        else if (question.contains("sex education") || 
-                question.contains("sexual education") ||
-                question.contains("sex ed") ||
-                question.contains("reproductive health education") ||
-                question.contains("sexual health") ||
-                question.contains("family planning education")) {
-            return "Mandatory Sex Education";
-        } 
-        // Minimum wage-related terms
-        else if (question.contains("minimum wage") || 
-                question.contains("salary standard") || 
-                question.contains("wage standardization") ||
-                question.contains("minimum pay") ||
-                question.contains("wage floor") ||
-                question.contains("basic wage") ||
-                question.contains("standard salary")) {
-            return "Minimum Wage Standardization";
-        } 
-        // Jeepney modernization-related terms
-        else if (question.contains("jeepney") || 
-                (question.contains("public") && question.contains("transport")) || 
-                question.contains("transport modernization") ||
-                question.contains("jeep phase out") ||
-                question.contains("modern public utility vehicles") ||
-                question.contains("puv modernization")) {
-            return "Jeepney Modernization Program";
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Check if user response aligns with candidate stance
-     */
-    private boolean responsesAlign(String userResponse, String candidateStance) {
-        // If no data for candidate, can't match
-        if (candidateStance == null || candidateStance.equals("No Data")) {
-            return false;
+        // Resolve each answered question to its (topic, stance) pair
+        StanceTopicDictionary dictionary = StanceTopicDictionary.getInstance();
+        List<String> topics = new ArrayList<>();
+        List<Stance> answers = new ArrayList<>();
+        for (int i = 0; i < userResponses.size() && i < questions.size(); i++) {
+            topics.add(dictionary.resolveTopic(questions.get(i)));
+            answers.add(Stance.parse(userResponses.get(i)));
         }
         
-        // Convert to lowercase for more flexible matching
-        String userLower = userResponse.toLowerCase();
-        String candidateLower = candidateStance.toLowerCase();
-        
-        // If user is neutral, count as a partial match with 50% probability
-        // This makes neutrals sometimes match, giving more diverse results
-        if (userLower.equals("neutral")) {
-            return Math.random() < 0.5;
+        // Reuse the running scores when they cover every answer, otherwise score from scratch
+        StanceMatchIndex index;
+        StanceMatchIndex.MatchScores scores;
+        if (liveScores != null && liveScores.getAnsweredCount() == topics.size()) {
+            index = liveScores.getIndex();
+            scores = liveScores;
+        } else {
+            index = StanceMatchIndex.getInstance();
+            scores = index.score(topics, answers);
         }
         
-        // Check for Agree responses with synonyms
-        if (userLower.contains("agree") || 
-            userLower.contains("support") || 
-            userLower.contains("favor") || 
-            userLower.contains("yes")) {
-            
-            if (candidateLower.contains("agree") || 
-                candidateLower.contains("support") || 
-                candidateLower.contains("favor") || 
-                candidateLower.contains("yes") ||
-                candidateLower.contains("for") ||
-                candidateLower.contains("approve")) {
-                return true;
-            }
-        }
-        
-        // Check for Disagree responses with synonyms
-        if (userLower.contains("disagree") || 
-            userLower.contains("oppose") || 
-            userLower.contains("against") || 
-            userLower.contains("no")) {
-            
-            if (candidateLower.contains("disagree") || 
-                candidateLower.contains("oppose") || 
-                candidateLower.contains("against") || 
-                candidateLower.contains("no") ||
-                candidateLower.contains("reject") ||
-                candidateLower.contains("disapprove")) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Get social stances for a specific candidate
-     */
-    private Map<String, String> getCandidateStances(String candidateName) {
-        Map<String, String> stances = new HashMap<>();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader("resources/data/candidates.txt"))) {
-            String line;
-            boolean inTargetCandidate = false;
-            
-            while ((line = reader.readLine()) != null) {
-                if (line.startsWith("Name:") && line.contains(candidateName)) {
-                    inTargetCandidate = true;
-                } else if (line.startsWith("Name:") && inTargetCandidate) {
-                    // Found next candidate, stop parsing
-                    break;
-                } else if (inTargetCandidate && line.startsWith("Social Stance:")) {
-                    // Parse social stance line
-                    String stanceLine = line.substring("Social Stance:".length()).trim();
-                    int dashIndex = stanceLine.lastIndexOf('-');
-                    
-                    if (dashIndex > 0) {
-                        String topic = stanceLine.substring(0, dashIndex).trim();
-                        String position = stanceLine.substring(dashIndex + 1).trim();
-                        stances.put(topic, position);
-                    }
+        // Keep the top 5
+        for (int candidateIndex : scores.top(5)) {
+            List<Integer> matchingIndices = new ArrayList<>();
+            for (int i = 0; i < topics.size(); i++) {
+                if (index.matches(candidateIndex, topics.get(i), answers.get(i))) {
+                    matchingIndices.add(i);
                 }
             }
-        } catch (IOException e) {
-            System.err.println("Error loading candidate stances: " + e.getMessage());
-        }
-        
-        return stances;
-    }
-    
-    /**
-     * Load candidates from file
-     */
-    private List<Candidate> loadCandidates() {
-        List<Candidate> candidates = new ArrayList<>();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader("resources/data/candidates.txt"))) {
-            String line;
-            String name = null;
-            String party = null;
             
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                
-                if (line.startsWith("Name:")) {
-                    // Extract name from "Name: Fernando "Nanding" Reyes" format
-                    name = line.substring(line.indexOf(":") + 1).trim();
-                } else if (line.startsWith("Party Affiliation:")) {
-                    // Extract party from "Party Affiliation: Partido ng Pagbabago at Pag-asa (PPP)" format
-                    party = line.substring(line.indexOf(":") + 1).trim();
-                    
-                    // If we have both name and party, add the candidate
-                    if (name != null && party != null) {
-                        candidates.add(new Candidate(name, party));
-                        name = null;
-                        party = null;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading candidates: " + e.getMessage());
+            // Calculate match percentage
+            double matchPercentage = userResponses.isEmpty() ? 0 : 
+                    (double) scores.countOf(candidateIndex) / userResponses.size();
             
-            // Add sample candidates if file loading fails
-            candidates.add(new Candidate("Fernando \"Nanding\" Reyes", "Partido ng Pagbabago at Pag-asa (PPP)"));
-            candidates.add(new Candidate("Maria \"Maring\" Villanueva-Santos", "Partido Demokratiko ng Pilipinas (PDP)"));
-            candidates.add(new Candidate("Roberto \"Bert\" Gonzales Jr.", "Lakas ng Bayan (LNB)"));
-            candidates.add(new Candidate("Danilo \"Danny\" Macaraig", "Partido ng Pagbabago at Pag-asa (PPP)"));
-            candidates.add(new Candidate("Rosario \"Charo\" Lim-Tan", "Partido Demokratiko ng Pilipinas (PDP)"));
+            matchingCandidates.add(new CandidateMatch(index.getCandidate(candidateIndex), matchPercentage, matchingIndices));
         }
-        
-        return candidates;
     }
     
     /**
@@ -709,19 +375,19 @@ public class Results extends JPanel {
         
         // Candidate name
         JLabel nameLabel = new JLabel(match.candidate.getName());
-        nameLabel.setFont(interBold.deriveFont(20f));
+        nameLabel.setFont(FontRegistry.derive(interBold, 20f));
         nameLabel.setForeground(primaryBlue);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Match percentage
         JLabel matchLabel = new JLabel(String.format("%.1f%% Match", match.matchPercentage * 100));
-        matchLabel.setFont(interSemiBold.deriveFont(18f));
+        matchLabel.setFont(FontRegistry.derive(interSemiBold, 18f));
         matchLabel.setForeground(primaryRed);
         matchLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Candidate party
         JLabel partyLabel = new JLabel("<html><div style='width:200px'>" + match.candidate.getParty() + "</div></html>");
-        partyLabel.setFont(interRegular.deriveFont(14f));
+        partyLabel.setFont(FontRegistry.derive(interRegular, 14f));
         partyLabel.setForeground(darkGray);
         partyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -740,7 +406,7 @@ public class Results extends JPanel {
         
         // Matching views label
         JLabel viewsLabel = new JLabel("Matching Views:");
-        viewsLabel.setFont(interSemiBold.deriveFont(16f));
+        viewsLabel.setFont(FontRegistry.derive(interSemiBold, 16f));
         viewsLabel.setForeground(textColor);
         viewsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         viewsPanel.add(viewsLabel);
@@ -761,13 +427,13 @@ public class Results extends JPanel {
                 
                 // Question text with text wrapping
                 JLabel questionLabel = new JLabel("<html><div style='width: 350px'>" + question + "</div></html>");
-                questionLabel.setFont(interRegular.deriveFont(14f));
+                questionLabel.setFont(FontRegistry.derive(interRegular, 14f));
                 questionLabel.setForeground(textColor);
                 questionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
                 
                 // Response label
                 JLabel responseLabel = new JLabel("Your answer: " + response);
-                responseLabel.setFont(interMedium.deriveFont(13f));
+                responseLabel.setFont(FontRegistry.derive(interMedium, 13f));
                 responseLabel.setForeground(response.equals("Agree") ? agreeGreen : 
                                           response.equals("Disagree") ? disagreeRed : darkGray);
                 responseLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -6,13 +6,14 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.ArrayList;
 import java.util.List;
 import frontend.comparison.CandidateDataManager;
+import util.AvatarRenderer;
+import util.FontRegistry;
+import util.ThumbnailCache;
 
 /**
  * A modular component to display candidate information in a card format.
@@ -32,6 +33,13 @@ public class CandidateCard extends JPanel {
     private String candidateParty;
     private BufferedImage candidateImage = null;
     
+    // Background decode of the candidate photo, if one is in flight
+    private Future<?> pendingImageLoad;
+    private int imageRequestId = 0;
+    
+    // Diameter of the circular photo
+    private static final int AVATAR_SIZE = ThumbnailCache.CARD_AVATAR_SIZE;
+    
     // Styling properties
     private final Color cardBackground = new Color(255, 255, 255);
     private final Color cardBorder = new Color(0xE2, 0xE8, 0xF0); // #E2E8F0
@@ -196,7 +204,7 @@ public class CandidateCard extends JPanel {
         
         // Create circular image panel with optimizations
         imagePanel = createImagePanel();
-        imagePanel.setPreferredSize(new Dimension(60, 60)); // Square size for circular image
+        imagePanel.setPreferredSize(new Dimension(AVATAR_SIZE, AVATAR_SIZE)); // Square size for circular image
         
         // Create info panel with a left alignment
         JPanel infoPanel = new JPanel();
@@ -208,7 +216,7 @@ public class CandidateCard extends JPanel {
         nameLabel.setForeground(textPrimary); // #0F172A as requested
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         if (interSemiBold != null) {
-            nameLabel.setFont(interSemiBold.deriveFont(14f));
+            nameLabel.setFont(FontRegistry.derive(interSemiBold, 14f));
         } else {
             nameLabel.setFont(new Font("Sans-Serif", Font.BOLD, 14));
         }
@@ -222,7 +230,7 @@ public class CandidateCard extends JPanel {
         positionLabel.setBorder(null);
         positionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         if (interRegular != null) {
-            positionLabel.setFont(interRegular.deriveFont(12f));
+            positionLabel.setFont(FontRegistry.derive(interRegular, 12f));
         } else {
             positionLabel.setFont(new Font("Sans-Serif", Font.PLAIN, 12));
         }
@@ -232,7 +240,7 @@ public class CandidateCard extends JPanel {
         partyLabel.setForeground(textSecondary); // #64748B as requested
         partyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         if (interRegular != null) {
-            partyLabel.setFont(interRegular.deriveFont(11f)); // Smaller than position
+            partyLabel.setFont(FontRegistry.derive(interRegular, 11f)); // Smaller than position
         } else {
             partyLabel.setFont(new Font("Sans-Serif", Font.PLAIN, 11));
         }
@@ -287,21 +295,21 @@ public class CandidateCard extends JPanel {
     private void updateFonts() {
         // Name font: fixed at 14px - using SemiBold
         if (interSemiBold != null) {
-            nameLabel.setFont(interSemiBold.deriveFont(14f));
+            nameLabel.setFont(FontRegistry.derive(interSemiBold, 14f));
         } else {
             nameLabel.setFont(new Font("Sans-Serif", Font.BOLD, 14));
         }
         
         // Position font: fixed at 12px - using Regular
         if (interRegular != null) {
-            positionLabel.setFont(interRegular.deriveFont(12f));
+            positionLabel.setFont(FontRegistry.derive(interRegular, 12f));
         } else {
             positionLabel.setFont(new Font("Sans-Serif", Font.PLAIN, 12));
         }
         
         // Party font: fixed at 11px - using Regular
         if (interRegular != null) {
-            partyLabel.setFont(interRegular.deriveFont(11f));
+            partyLabel.setFont(FontRegistry.derive(interRegular, 11f));
         } else {
             partyLabel.setFont(new Font("Sans-Serif", Font.PLAIN, 11));
         }
@@ -429,105 +437,13 @@ public class CandidateCard extends JPanel {
      */
     private JPanel createImagePanel() {
         JPanel panel = new JPanel() {
-            // Cache for the circular image
-            private BufferedImage cachedImage = null;
-            private int lastWidth = 0;
-            private int lastHeight = 0;
-            
-            @Override
-            public void setBounds(int x, int y, int width, int height) {
-                if (width != lastWidth || height != lastHeight) {
-                    cachedImage = null;  // Reset cached image when size changes
-                    lastWidth = width;
-                    lastHeight = height;
-                }
-                super.setBounds(x, y, width, height);
-            }
-
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
                 if (getWidth() <= 0 || getHeight() <= 0) return;
                 
-                // Create cached image if needed
-                if (cachedImage == null) {
-                    cachedImage = createCircularImage();
-                }
-                
-                // Draw the cached image
-                g.drawImage(cachedImage, 0, 0, null);
-            }
-            
-            /**
-             * Create a circular image for caching
-             */
-            private BufferedImage createCircularImage() {
-                BufferedImage result = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g2d = result.createGraphics();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Draw background as transparent
-                g2d.setComposite(AlphaComposite.Clear);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.setComposite(AlphaComposite.SrcOver);
-                
                 int diameter = Math.min(getWidth(), getHeight());
-                
-                if (candidateImage != null) {
-                    // Create a circular clip
-                    Shape clip = new java.awt.geom.Ellipse2D.Double(0, 0, diameter, diameter);
-                    g2d.setClip(clip);
-                    
-                    // Calculate scaled image dimensions
-                    double scale = Math.max(
-                        (double) diameter / candidateImage.getWidth(),
-                        (double) diameter / candidateImage.getHeight()
-                    );
-                    
-                    int scaledWidth = (int) (candidateImage.getWidth() * scale);
-                    int scaledHeight = (int) (candidateImage.getHeight() * scale);
-                    
-                    // Draw image centered in the circle
-                    int x = (diameter - scaledWidth) / 2;
-                    int y = (diameter - scaledHeight) / 2;
-                    
-                    g2d.drawImage(candidateImage, x, y, scaledWidth, scaledHeight, null);
-                    
-                    // Reset clip and draw border
-                    g2d.setClip(null);
-                    g2d.setColor(cardBorder);
-                    g2d.setStroke(new BasicStroke(1));
-                    g2d.draw(clip);
-                } else {
-                    // If no image, draw a colored circle with initials
-                    g2d.setColor(getColorFromName(candidateName));
-                    g2d.fillOval(0, 0, diameter, diameter);
-                    
-                    // Draw initials
-                    String initials = getInitials(candidateName);
-                    g2d.setColor(Color.WHITE);
-                    
-                    // Use a simple font to avoid font loading overhead
-                    Font font = new Font(Font.SANS_SERIF, Font.BOLD, diameter / 3);
-                    g2d.setFont(font);
-                    
-                    // Center the text
-                    FontMetrics fm = g2d.getFontMetrics();
-                    int textWidth = fm.stringWidth(initials);
-                    int textHeight = fm.getHeight();
-                    int textX = (diameter - textWidth) / 2;
-                    int textY = (diameter - textHeight) / 2 + fm.getAscent();
-                    
-                    g2d.drawString(initials, textX, textY);
-                    
-                    // Draw border
-                    g2d.setColor(cardBorder);
-                    g2d.setStroke(new BasicStroke(1));
-                    g2d.drawOval(0, 0, diameter - 1, diameter - 1);
-                }
-                
-                g2d.dispose();
-                return result;
+                AvatarRenderer.paintAvatar(g, candidateImage, candidateName, diameter, cardBorder);
             }
         };
         
@@ -539,25 +455,47 @@ public class CandidateCard extends JPanel {
      * Load candidate image from path
      */
     private void loadCandidateImage(String imagePath) {
-        try {
-            // If path is null or empty, use a placeholder
-            if (imagePath == null || imagePath.trim().isEmpty()) {
-                createPlaceholderImage();
-                return;
+        // Drop any decode started for a previous image
+        cancelImageLoad();
+        
+        // If path is null or empty, use a placeholder
+        if (imagePath == null || imagePath.trim().isEmpty()) {
+            createPlaceholderImage();
+            return;
+        }
+        
+        // Use the thumbnail right away if another card already loaded it
+        candidateImage = ThumbnailCache.getInstance().getCachedThumbnail(imagePath, AVATAR_SIZE);
+        if (candidateImage != null) {
+            return;
+        }
+        
+        // Otherwise show the initials until the thumbnail is loaded in the background
+        final int requestId = imageRequestId;
+        pendingImageLoad = ThumbnailCache.getInstance().getThumbnailAsync(imagePath, AVATAR_SIZE, image -> {
+            if (requestId != imageRequestId) {
+                return; // Superseded or cancelled
             }
+            pendingImageLoad = null;
             
-            // Try to load the image
-            File imageFile = new File(imagePath);
-            if (imageFile.exists()) {
-                candidateImage = ImageIO.read(imageFile);
-                System.out.println("Loaded candidate image from: " + imagePath);
+            if (image != null) {
+                candidateImage = image;
             } else {
                 System.out.println("Candidate image not found at: " + imagePath);
                 createPlaceholderImage();
             }
-        } catch (IOException e) {
-            System.out.println("Error loading candidate image: " + e.getMessage());
-            createPlaceholderImage();
+            imagePanel.repaint();
+        });
+    }
+    
+    /**
+     * Cancel a pending background image decode, e.g. when the card is discarded
+     */
+    public void cancelImageLoad() {
+        imageRequestId++;
+        if (pendingImageLoad != null) {
+            pendingImageLoad.cancel(false);
+            pendingImageLoad = null;
         }
     }
     
@@ -582,7 +520,7 @@ public class CandidateCard extends JPanel {
             g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
             
             // Create a colored background
-            Color bgColor = getColorFromName(candidateName);
+            Color bgColor = AvatarRenderer.getColorFromName(candidateName);
             g2d.setColor(bgColor);
             g2d.fillOval(0, 0, size, size);
             
@@ -590,7 +528,7 @@ public class CandidateCard extends JPanel {
             g2d.setColor(Color.WHITE);
             g2d.setFont(new Font("Sans-Serif", Font.BOLD, size / 3));
             
-            String initials = getInitials(candidateName);
+            String initials = AvatarRenderer.getInitials(candidateName);
             FontMetrics fm = g2d.getFontMetrics();
             int textWidth = fm.stringWidth(initials);
             int textHeight = fm.getHeight();
@@ -605,58 +543,8 @@ public class CandidateCard extends JPanel {
     }
     
     /**
-     * Get initials from a name (up to 2 characters)
-     */
-    private String getInitials(String name) {
-        if (name == null || name.isEmpty()) {
-            return "??";
-        }
-        
-        StringBuilder initials = new StringBuilder();
-        String[] parts = name.split("\\s+");
-        
-        // Get first letter of first name
-        if (parts.length > 0 && !parts[0].isEmpty()) {
-            initials.append(parts[0].charAt(0));
-        }
-        
-        // Get first letter of last name if available
-        if (parts.length > 1 && !parts[parts.length - 1].isEmpty()) {
-            initials.append(parts[parts.length - 1].charAt(0));
-        } else if (initials.length() < 2 && parts[0].length() > 1) {
-            // If only one name and initials is still short, use first two letters
-            initials.append(parts[0].charAt(1));
-        }
-        
-        return initials.toString().toUpperCase();
-    }
-    
-    /**
-     * Generate a consistent color based on the candidate's name
-     */
-    private Color getColorFromName(String name) {
-        if (name == null || name.isEmpty()) {
-            return new Color(0x2F, 0x39, 0x8E); // Default blue
-        }
-        
-        // Calculate a hash code for the name
-        int hash = name.hashCode();
-        
-        // Use different prime numbers for each color component
-        int r = Math.abs(hash % 256);
-        int g = Math.abs((hash / 256) % 256);
-        int b = Math.abs((hash / 65536) % 256);
-        
-        // Ensure the color isn't too light (for white text contrast)
-        r = Math.min(r, 180);
-        g = Math.min(g, 180);
-        b = Math.min(b, 180);
-        
-        return new Color(r, g, b);
-    }
-    
-    /**
-     * Update the candidate data
+     * Update the candidate data, e.g. to reuse this card for another candidate.
+     * The previous photo is dropped at once; the new one shows initials until loaded.
      */
     public void updateCandidateData(String name, String position, String party, String imagePath) {
         this.candidateName = name;
@@ -6,14 +6,20 @@ import javax.swing.event.MouseInputAdapter;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.Consumer;
 import backend.model.CandidateDataLoader;
+import backend.model.CandidateIndex;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.HashMap;
+import java.util.stream.Collectors;
+import util.AvatarStore;
+import util.BackdropCache;
 
 /**
  * A scrollable panel that displays candidate cards in a grid layout.
@@ -32,8 +38,21 @@ public class CandidateCardPanel extends JPanel {
     private int verticalGap = 15;
     private int topMargin = 0;
     
-    // List to store all displayed cards
-    private List<CandidateCard> candidateCards = new ArrayList<>();
+    // Rows mounted above and below the visible ones, so short scrolls find their cards ready
+    private static final int OVERSCAN_ROWS = 2;
+    
+    // Cards showing a candidate, keyed by the candidate they are bound to.
+    // Only the rows in view (plus overscan) have cards; the rest of the grid is empty space.
+    private Map<CandidateDataLoader.Candidate, CandidateCard> mountedCards = new IdentityHashMap<>();
+    
+    // Hidden cards kept in the content panel, rebound to the next candidates that scroll in
+    private final List<CandidateCard> cardPool = new ArrayList<>();
+    
+    // Spare cards kept at most; a screen of rows plus overscan needs fewer
+    private static final int MAX_POOLED_CARDS = 48;
+    
+    // Horizontal offset that centers the grid, computed by updateLayout
+    private int gridStartX = 0;
     
     // Fonts
     private Font interRegular;
@@ -69,6 +88,16 @@ public class CandidateCardPanel extends JPanel {
     // Keep track of any running workers
     private SwingWorker<?, ?> currentWorker;
     
+    // Whether a filter pass was cancelled by pauseBackgroundOperations and still has to run
+    private boolean filterPending = false;
+    
+    // Opaque rendering lets the viewport scroll by copying pixels; disable with -Dgabay.opaqueScroll=false
+    private static final boolean OPAQUE_SCROLL = !"false".equals(System.getProperty("gabay.opaqueScroll"));
+    
+    // Window whose pre-rendered backdrop the grid draws behind the cards, null when transparent
+    private JComponent backdropOwner;
+    private Color backdropColor = Color.WHITE;
+    
     /**
      * Create a scrollable panel that displays candidate cards
      * 
@@ -104,18 +133,25 @@ public class CandidateCardPanel extends JPanel {
         contentPanel = new JPanel(null) {
             @Override
             public Dimension getPreferredSize() {
-                // Calculate preferred size based on number of cards
-                if (candidateCards.isEmpty()) {
+                // Calculate preferred size from the number of candidates, not mounted cards
+                if (filteredCandidates.isEmpty()) {
                     return new Dimension(800, 200); // Provide a minimum size even when empty
                 }
                 
-                int rows = (int) Math.ceil((double) candidateCards.size() / cardsPerRow);
+                int rows = (int) Math.ceil((double) filteredCandidates.size() / cardsPerRow);
                 int width = cardsPerRow * cardWidth + (cardsPerRow - 1) * horizontalGap;
                 int height = rows * cardHeight + (rows - 1) * verticalGap + topMargin;
                 
                 // Add a bottom margin
                 height += 20;
                 
+                // An opaque grid must cover the whole viewport, so nothing behind it shows through
+                if (backdropOwner != null && scrollPane != null) {
+                    Dimension extent = scrollPane.getViewport().getExtentSize();
+                    width = Math.max(width, extent.width);
+                    height = Math.max(height, extent.height);
+                }
+                
                 return new Dimension(width, height);
             }
             
@@ -127,6 +163,10 @@ public class CandidateCardPanel extends JPanel {
             
             @Override
             public void paint(Graphics g) {
+                if (backdropOwner != null) {
+                    paintBackdrop(g);
+                }
+                
                 // Enable higher quality rendering only when not scrolling to improve performance
                 Graphics2D g2d = (Graphics2D)g;
                 if (!isAdjusting) {
@@ -167,9 +207,12 @@ public class CandidateCardPanel extends JPanel {
         scrollPane.setBackground(new Color(0, 0, 0, 0)); // Transparent background
         scrollPane.getViewport().setBackground(new Color(0, 0, 0, 0)); // Transparent viewport background
         
-        // Enable double buffering on the viewport to reduce flickering
+        // Scroll by copying on-screen pixels; Swing only does this while the view is opaque (see setBackdropOwner)
         scrollPane.getViewport().setScrollMode(JViewport.BLIT_SCROLL_MODE);
         
+        // Mount the cards that scroll into view
+        scrollPane.getViewport().addChangeListener(e -> updateVisibleCards());
+        
         // Ensure horizontal scrollbar is never shown
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         
@@ -241,7 +284,7 @@ public class CandidateCardPanel extends JPanel {
             
             if (isAdjusting) {
                 // Clear hover states on all cards when scrolling
-                for (CandidateCard card : candidateCards) {
+                for (CandidateCard card : mountedCards.values()) {
                     card.setHovering(false);
                 }
             }
@@ -346,7 +389,7 @@ public class CandidateCardPanel extends JPanel {
     private void resetAllHoverStates() {
         isAnyCardHovered = false;
         
-        for (CandidateCard card : candidateCards) {
+        for (CandidateCard card : mountedCards.values()) {
             card.setHovering(false);
         }
         
@@ -355,25 +398,19 @@ public class CandidateCardPanel extends JPanel {
     }
     
     /**
-     * Load candidate data and create cards
+     * Load candidate data and lay out the grid
      */
     private void loadCandidateData() {
         // Clear existing cards
-        candidateCards.clear();
-        contentPanel.removeAll();
-        
-        // Load candidate data from the data loader
-        allCandidates = CandidateDataLoader.loadCandidates();
-        // Sort by surname (last word in name)
-        allCandidates.sort((a, b) -> {
-            String nameA = a.getName().trim();
-            String nameB = b.getName().trim();
-            String surnameA = nameA.isEmpty() ? "" : nameA.substring(nameA.lastIndexOf(' ') + 1).toLowerCase();
-            String surnameB = nameB.isEmpty() ? "" : nameB.substring(nameB.lastIndexOf(' ') + 1).toLowerCase();
-            int cmp = surnameA.compareTo(surnameB);
-            if (cmp != 0) return cmp;
-            return nameA.compareToIgnoreCase(nameB);
-        });
+        discardCards();
+        
+        // Load candidates, already sorted by surname (last word in name)
+        allCandidates = CandidateIndex.get().getCandidatesBySurname();
+        
+        // Keep the raw-pixel avatar store in step with the candidate photos
+        AvatarStore.getInstance().updateAsync(allCandidates.stream()
+            .map(CandidateDataLoader.Candidate::getImagePath)
+            .collect(Collectors.toList()));
         filteredCandidates = new ArrayList<>(allCandidates);
         
         // If no candidates were loaded, use placeholder data
@@ -387,31 +424,20 @@ public class CandidateCardPanel extends JPanel {
                 {"Manny Pacquiao", "Presidential Candidate", "PROMDI", "resources/images/candidates/manny_pacquiao.jpg"}
             };
             
-            // Create cards from placeholder data
-            for (int i = 0; i < placeholderData.length; i++) {
-                createCard(
-                    (String) placeholderData[i][0],
-                    (String) placeholderData[i][1],
-                    (String) placeholderData[i][2],
-                    (String) placeholderData[i][3],
-                    i
-                );
-            }
-        } else {
-            // Create cards from loaded candidate data
-            for (int i = 0; i < filteredCandidates.size(); i++) {
-                CandidateDataLoader.Candidate candidate = filteredCandidates.get(i);
-                createCard(
-                    candidate.getName(),
-                    candidate.getPosition(),
-                    candidate.getParty(),
-                    candidate.getImagePath(),
-                    i
-                );
+            // Show the placeholders until the first filter pass
+            for (Object[] placeholder : placeholderData) {
+                filteredCandidates.add(new CandidateDataLoader.Candidate(
+                    (String) placeholder[0],
+                    (String) placeholder[1],
+                    (String) placeholder[2],
+                    "",
+                    "",
+                    (String) placeholder[3]
+                ));
             }
         }
         
-        // Update layout
+        // Update layout, which mounts the cards in view
         updateLayout();
         
         // Repaint the panel
@@ -420,15 +446,34 @@ public class CandidateCardPanel extends JPanel {
     }
     
     /**
-     * Create a candidate card and add it to the panel
+     * Get a card showing a candidate: a pooled card rebound to it, or a new one
+     */
+    private CandidateCard acquireCard(CandidateDataLoader.Candidate candidate) {
+        if (cardPool.isEmpty()) {
+            return createCard(candidate);
+        }
+        CandidateCard card = cardPool.remove(cardPool.size() - 1);
+        card.updateCandidateData(
+            candidate.getName(),
+            candidate.getPosition(),
+            candidate.getParty(),
+            candidate.getImagePath()
+        );
+        card.setVisible(true);
+        return card;
+    }
+    
+    /**
+     * Create a card for a candidate and add it to the panel.
+     * The hover listener is registered once for the card's lifetime, however often it is rebound.
      */
-    private void createCard(String name, String position, String party, String imagePath, int index) {
+    private CandidateCard createCard(CandidateDataLoader.Candidate candidate) {
         // Create card
         CandidateCard card = new CandidateCard(
-            name,
-            position,
-            party,
-            imagePath,
+            candidate.getName(),
+            candidate.getPosition(),
+            candidate.getParty(),
+            candidate.getImagePath(),
             interRegular,
             interSemiBold,
             interMedium,
@@ -439,7 +484,7 @@ public class CandidateCardPanel extends JPanel {
         card.addCustomHoverListener(isHovering -> {
             if (isHovering) {
                 // When hovering over one card, ensure other cards are not in hover state
-                for (CandidateCard otherCard : candidateCards) {
+                for (CandidateCard otherCard : mountedCards.values()) {
                     if (otherCard != card) {
                         otherCard.setHovering(false);
                     }
@@ -449,7 +494,7 @@ public class CandidateCardPanel extends JPanel {
             } else {
                 // Check if any other card is still being hovered
                 boolean anyOtherCardHovered = false;
-                for (CandidateCard otherCard : candidateCards) {
+                for (CandidateCard otherCard : mountedCards.values()) {
                     if (otherCard.isHovering()) {
                         anyOtherCardHovered = true;
                         break;
@@ -462,9 +507,25 @@ public class CandidateCardPanel extends JPanel {
             contentPanel.repaint();
         });
         
-        // Add card to list and panel
-        candidateCards.add(card);
+        // Add card to panel
         contentPanel.add(card);
+        return card;
+    }
+    
+    /**
+     * Hide a card that is no longer shown and keep it for reuse
+     */
+    private void releaseCard(CandidateCard card) {
+        card.setHovering(false);
+        card.cancelImageLoad();
+        
+        if (cardPool.size() < MAX_POOLED_CARDS) {
+            card.setVisible(false);
+            cardPool.add(card);
+        } else {
+            contentPanel.remove(card);
+            contentPanel.repaint(card.getBounds());
+        }
     }
     
     /**
@@ -489,27 +550,72 @@ public class CandidateCardPanel extends JPanel {
             startX = (availableWidth - totalRowWidth) / 2;
         }
         
-        // Position all cards in the grid
-        for (int i = 0; i < candidateCards.size(); i++) {
-            CandidateCard card = candidateCards.get(i);
+        gridStartX = startX;
+        
+        // Mount and position the cards in view
+        updateVisibleCards();
+        
+        // Update content panel size
+        contentPanel.revalidate();
+        
+        // Debug visibility - print out current state
+        debugLayout();
+    }
+    
+    /**
+     * Mount cards for the rows in view plus overscan, unmount the rest and position them.
+     * Memory and rebuild time then depend on the viewport size, not the number of candidates.
+     */
+    private void updateVisibleCards() {
+        int count = filteredCandidates.size();
+        int rowHeight = cardHeight + verticalGap;
+        
+        // Rows in view; before the first layout assume a window-sized view at the top
+        Rectangle view = scrollPane.getViewport().getViewRect();
+        int viewHeight = view.height > 0 ? view.height : Math.max(getHeight(), 800);
+        int firstRow = Math.max(0, (view.y - topMargin) / rowHeight - OVERSCAN_ROWS);
+        int lastRow = Math.max(0, (view.y + viewHeight - topMargin) / rowHeight + OVERSCAN_ROWS);
+        int first = Math.min(count, firstRow * cardsPerRow);
+        int end = Math.min(count, (lastRow + 1) * cardsPerRow);
+        
+        // Keep the cards of candidates still in the window, wherever they moved to
+        Map<CandidateDataLoader.Candidate, CandidateCard> previous = mountedCards;
+        mountedCards = new IdentityHashMap<>();
+        for (int i = first; i < end; i++) {
+            CandidateDataLoader.Candidate candidate = filteredCandidates.get(i);
+            CandidateCard card = previous.remove(candidate);
+            if (card != null) {
+                mountedCards.put(candidate, card);
+            }
+        }
+        
+        // Release the rest first so the pool can rebind them below
+        for (CandidateCard card : previous.values()) {
+            releaseCard(card);
+        }
+        
+        // Bind cards for candidates that came into the window and position all of them
+        for (int i = first; i < end; i++) {
+            CandidateDataLoader.Candidate candidate = filteredCandidates.get(i);
+            CandidateCard card = mountedCards.get(candidate);
+            boolean added = card == null;
+            if (added) {
+                card = acquireCard(candidate);
+                mountedCards.put(candidate, card);
+            }
             
             // Calculate row and column
             int row = i / cardsPerRow;
             int col = i % cardsPerRow;
             
-            // Calculate position with centering offset
-            int x = startX + col * (cardWidth + horizontalGap);
-            int y = topMargin + row * (cardHeight + verticalGap);
+            // Set card bounds with centering offset
+            card.setBounds(gridStartX + col * (cardWidth + horizontalGap), topMargin + row * rowHeight, cardWidth, cardHeight);
             
-            // Set card bounds
-            card.setBounds(x, y, cardWidth, cardHeight);
+            // A blit scroll may already have painted this spot empty or with an old card
+            if (added) {
+                contentPanel.repaint(card.getBounds());
+            }
         }
-        
-        // Update content panel size
-        contentPanel.revalidate();
-        
-        // Debug visibility - print out current state
-        debugLayout();
     }
     
     /**
@@ -518,21 +624,12 @@ public class CandidateCardPanel extends JPanel {
     private void debugLayout() {
         System.out.println("CandidateCardPanel Debug Info:");
         System.out.println("  - Panel bounds: " + getBounds());
-        System.out.println("  - Card count: " + candidateCards.size());
+        System.out.println("  - Candidate count: " + filteredCandidates.size());
+        System.out.println("  - Mounted cards: " + mountedCards.size() + " (" + cardPool.size() + " pooled)");
         System.out.println("  - Cards per row: " + cardsPerRow);
         System.out.println("  - Content panel size: " + contentPanel.getPreferredSize());
         System.out.println("  - Scroll pane viewport: " + scrollPane.getViewport().getViewSize());
-        
-        // Check if all cards are visible
-        if (!candidateCards.isEmpty()) {
-            CandidateCard firstCard = candidateCards.get(0);
-            System.out.println("  - First card bounds: " + firstCard.getBounds());
-            
-            if (candidateCards.size() > 1) {
-                CandidateCard lastCard = candidateCards.get(candidateCards.size() - 1);
-                System.out.println("  - Last card bounds: " + lastCard.getBounds());
-            }
-        }
+
     }
     
     /**
@@ -823,27 +920,23 @@ public class CandidateCardPanel extends JPanel {
         return false;
     }
     
+    /**
+     * Release all mounted cards to the pool, cancelling any photo decodes they still have pending
+     */
+    private void discardCards() {
+        Map<CandidateDataLoader.Candidate, CandidateCard> previous = mountedCards;
+        mountedCards = new IdentityHashMap<>();
+        for (CandidateCard card : previous.values()) {
+            releaseCard(card);
+        }
+    }
+    
     /**
      * Rebuild the UI cards based on the filtered candidate list
      */
     private void rebuildCards() {
-        // Clear existing cards from UI
-        contentPanel.removeAll();
-        candidateCards.clear();
-        
-        // Create cards from filtered candidate data
-        for (int i = 0; i < filteredCandidates.size(); i++) {
-            CandidateDataLoader.Candidate candidate = filteredCandidates.get(i);
-            createCard(
-                candidate.getName(),
-                candidate.getPosition(),
-                candidate.getParty(),
-                candidate.getImagePath(),
-                i
-            );
-        }
-        
-        // Update layout 
+        // Update layout, which keeps the cards of candidates still in view (moving them
+        // to their new cells) and rebinds pooled cards for the rest
         updateLayout();
         
         // Force revalidation and repaint
@@ -913,6 +1006,42 @@ public class CandidateCardPanel extends JPanel {
         });
     }
     
+    /**
+     * Draw the grid on an opaque copy of the window background instead of a transparent one.
+     * With an opaque view the viewport scrolls by copying what is already on screen and only
+     * paints the newly exposed strip, instead of repainting the window background and every
+     * visible card on each scroll step. The backdrop lines up with the window's when the grid
+     * is scrolled to the top and moves with the cards when scrolled.
+     *
+     * @param owner Component that paints the backdrop through BackdropCache
+     * @param background Color used where the backdrop layer does not reach
+     */
+    public void setBackdropOwner(JComponent owner, Color background) {
+        if (!OPAQUE_SCROLL) {
+            return;
+        }
+        backdropOwner = owner;
+        backdropColor = background;
+        contentPanel.setOpaque(true);
+        contentPanel.revalidate();
+        contentPanel.repaint();
+    }
+    
+    private void paintBackdrop(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, contentPanel.getWidth(), contentPanel.getHeight());
+        }
+        g.setColor(backdropColor);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        
+        BufferedImage layer = BackdropCache.getPaintedLayer(backdropOwner);
+        if (layer != null) {
+            Point origin = SwingUtilities.convertPoint(scrollPane.getViewport(), 0, 0, backdropOwner);
+            g.drawImage(layer, -origin.x, -origin.y, null);
+        }
+    }
+    
     /**
      * Set the background opacity level
      * @param opacity Value between 0.0 (fully transparent) and 1.0 (fully opaque)
@@ -1000,7 +1129,29 @@ public class CandidateCardPanel extends JPanel {
     }
     
     /**
-     * Cancels any ongoing background operations to prevent lag when leaving the page
+     * Cancels the filter pass in progress while the window is hidden for reuse.
+     * The search, province and shown candidates are kept for the next visit.
+     */
+    public void pauseBackgroundOperations() {
+        if (currentWorker != null && !currentWorker.isDone()) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+            filterPending = true;
+        }
+    }
+    
+    /**
+     * Runs the filter pass cancelled by pauseBackgroundOperations, if there was one
+     */
+    public void resumeBackgroundOperations() {
+        if (filterPending) {
+            filterPending = false;
+            applyFilters();
+        }
+    }
+    
+    /**
+     * Cancels any ongoing background operations and clears the filter state when the window is disposed
      */
     public void cancelBackgroundOperations() {
         // Cancel any running worker
@@ -1008,6 +1159,7 @@ public class CandidateCardPanel extends JPanel {
             currentWorker.cancel(true);
             currentWorker = null;
         }
+        filterPending = false;
         
         // Clear caches to free memory
         issueFilterCache.clear();
@@ -25,7 +25,12 @@ import javax.swing.Timer;
 import frontend.landingpage.LandingPageUI;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import frontend.utils.WindowRegistry;
 import frontend.utils.WindowTransitionManager;
+import util.BackdropCache;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.ScaledImageCache;
 
 public class CandidateSearchUI extends JFrame {
     // Font variables
@@ -100,6 +105,9 @@ public class CandidateSearchUI extends JFrame {
     
     private Timer searchTimer;
     
+    // Whether a typed search was still waiting on searchTimer when the window was hidden
+    private boolean searchPending = false;
+    
     public CandidateSearchUI() {
         // Load fonts
         loadFonts();
@@ -128,16 +136,8 @@ public class CandidateSearchUI extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                // Fill the background with white
-                g.setColor(Color.WHITE);
-                g.fillRect(0, 0, getWidth(), getHeight());
-                
                 // Draw background image with reduced opacity if enabled
                 if (backgroundImage != null && showBackgroundImage) {
-                    Graphics2D g2d = (Graphics2D)g;
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
-                                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    
                     // Calculate backdrop position, adjusting for window scaling
                     double widthScaleFactor = Math.min(1.0, getWidth() / (double)initialWindowWidth);
                     double heightScaleFactor = Math.min(1.0, getHeight() / (double)initialWindowHeight);
@@ -151,15 +151,13 @@ public class CandidateSearchUI extends JFrame {
                     int scaledWidth = (int)(BACKDROP_WIDTH * scaleFactor);
                     int scaledHeight = (int)(BACKDROP_HEIGHT * scaleFactor);
                     
-                    // Set the opacity to 3%
-                    AlphaComposite alphaComposite = AlphaComposite.getInstance(
-                        AlphaComposite.SRC_OVER, 0.03f);
-                    g2d.setComposite(alphaComposite);
-                    
-                    g2d.drawImage(backgroundImage, imageX, imageY, scaledWidth, scaledHeight, this);
-                    
-                    // Reset composite for other components
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+                    // White fill and faded backdrop are pre-rendered once per window size
+                    BackdropCache.paint(this, g, backgroundImage, Color.WHITE,
+                            imageX, imageY, scaledWidth, scaledHeight, 0.03f);
+                } else {
+                    // Fill the background with white
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, getWidth(), getHeight());
                 }
                 
                 // Draw title text at specified position
@@ -202,7 +200,7 @@ public class CandidateSearchUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    titleFont = titleFont.deriveFont(titleFontSize).deriveFont(attributes);
+                    titleFont = FontRegistry.derive(titleFont, titleFontSize).deriveFont(attributes);
                 } else {
                     titleFont = new Font("Sans-Serif", Font.BOLD, (int)(70 * widthScaleFactor));
                 }
@@ -222,7 +220,7 @@ public class CandidateSearchUI extends JFrame {
                     
                     Map<TextAttribute, Object> attributes = new HashMap<>();
                     attributes.put(TextAttribute.TRACKING, -0.05); // -5% letter spacing
-                    paragraphFont = paragraphFont.deriveFont(paragraphFontSize).deriveFont(attributes);
+                    paragraphFont = FontRegistry.derive(paragraphFont, paragraphFontSize).deriveFont(attributes);
                 } else {
                     paragraphFont = new Font("Sans-Serif", Font.PLAIN, (int)(18 * widthScaleFactor));
                 }
@@ -318,9 +316,7 @@ public class CandidateSearchUI extends JFrame {
             int logoHeight = 40; // Height in pixels
             int logoWidth = (int)((double)headerLogoImage.getWidth() / headerLogoImage.getHeight() * logoHeight);
             
-            // Create scaled version of logo
-            Image scaledLogo = headerLogoImage.getScaledInstance(logoWidth, logoHeight, Image.SCALE_SMOOTH);
-            logoLabel.setIcon(new ImageIcon(scaledLogo));
+            logoLabel.setIcon(ScaledImageCache.getScaledIcon(headerLogoImage, logoWidth, logoHeight));
             
             // Make logo clickable to go back to landing page
             logoLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
@@ -450,6 +446,9 @@ public class CandidateSearchUI extends JFrame {
         // Add candidate card below the divider
         addCandidateCardSection(contentPanel, dividerX, dividerLine.getBounds().y + 30, dividerWidth);
         
+        // Let the card grid draw this window's backdrop itself so it can scroll by blitting
+        cardPanel.setBackdropOwner(mainPanel, Color.WHITE);
+        
         // Final adjustment to ensure proper z-ordering
         adjustDividerForDropdowns();
 
@@ -468,6 +467,12 @@ public class CandidateSearchUI extends JFrame {
                 revalidate();
                 repaint();
             }
+            
+            @Override
+            public void componentShown(ComponentEvent e) {
+                // Shown again after being retained, pick up the work paused when it was hidden
+                resumeBackgroundTasks();
+            }
         });
 
         // Add a global mouse listener to ensure dropdowns are always in front
@@ -533,39 +538,32 @@ public class CandidateSearchUI extends JFrame {
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             File interRegularFile = new File("lib/fonts/Inter_18pt-Regular.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interBlackFile.exists()) {
-                interBlack = Font.createFont(Font.TRUETYPE_FONT, interBlackFile);
-                ge.registerFont(interBlack);
+                interBlack = FontRegistry.getFont(interBlackFile);
             } else {
                 interBlack = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interBoldFile.exists()) {
-                interBold = Font.createFont(Font.TRUETYPE_FONT, interBoldFile);
-                ge.registerFont(interBold);
+                interBold = FontRegistry.getFont(interBoldFile);
             } else {
                 interBold = new Font("Sans-Serif", Font.BOLD, 12);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 12);
             }
             
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 12);
             }
@@ -582,15 +580,8 @@ public class CandidateSearchUI extends JFrame {
     }
     
     private void loadBackgroundImage() {
-        try {
-            File imageFile = new File("resources/images/Landing-Backdrop.png");
-            if (imageFile.exists()) {
-                backgroundImage = ImageIO.read(imageFile);
-            } else {
-                createFallbackImage();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        backgroundImage = BackdropCache.getBackdropImage();
+        if (backgroundImage == null) {
             createFallbackImage();
         }
     }
@@ -649,8 +640,8 @@ public class CandidateSearchUI extends JFrame {
                         int iconWidth = (int)((double)searchIconImage.getWidth() / searchIconImage.getHeight() * iconHeight);
                         
                         // Draw icon on left side with padding
-                        g2d.drawImage(searchIconImage, 15, (getHeight() - iconHeight) / 2, 
-                                    iconWidth, iconHeight, this);
+                        ScaledImageCache.getScaledIcon(searchIconImage, iconWidth, iconHeight)
+                                .paintIcon(this, g2d, 15, (getHeight() - iconHeight) / 2);
                     }
                 }
             };
@@ -659,7 +650,7 @@ public class CandidateSearchUI extends JFrame {
             // Create text field with simpler guidance, removing social stances mention
             searchField = new JTextField("Search for candidates or issues...");
             searchField.setForeground(Color.GRAY);
-            searchField.setFont(interRegular.deriveFont(14f));
+            searchField.setFont(FontRegistry.derive(interRegular, 14f));
             searchField.setOpaque(false);
             searchField.setBorder(null);
             
@@ -677,8 +668,7 @@ public class CandidateSearchUI extends JFrame {
                 int clearIconWidth = (int)((double)clearIconImage.getWidth() / clearIconImage.getHeight() * clearIconHeight);
                 
                 // Create scaled icon
-                Image scaledImage = clearIconImage.getScaledInstance(clearIconWidth, clearIconHeight, Image.SCALE_SMOOTH);
-                clearIconLabel.setIcon(new ImageIcon(scaledImage));
+                clearIconLabel.setIcon(ScaledImageCache.getScaledIcon(clearIconImage, clearIconWidth, clearIconHeight));
                 clearIconLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
                 clearIconLabel.setVisible(false); // Initially hidden
                 
@@ -978,7 +968,7 @@ public class CandidateSearchUI extends JFrame {
         Font titleFont = interBlack;
         if (titleFont != null) {
             float titleFontSize = 70f;
-            titleFont = titleFont.deriveFont(titleFontSize);
+            titleFont = FontRegistry.derive(titleFont, titleFontSize);
         } else {
             titleFont = new Font("Sans-Serif", Font.BOLD, 70);
         }
@@ -987,7 +977,7 @@ public class CandidateSearchUI extends JFrame {
         Font paragraphFont = interSemiBold;
         if (paragraphFont != null) {
             float paragraphFontSize = 18f;
-            paragraphFont = paragraphFont.deriveFont(paragraphFontSize);
+            paragraphFont = FontRegistry.derive(paragraphFont, paragraphFontSize);
         } else {
             paragraphFont = new Font("Sans-Serif", Font.PLAIN, 18);
         }
@@ -1042,68 +1032,10 @@ public class CandidateSearchUI extends JFrame {
      * Load the header logo image from resources
      */
     private void loadHeaderLogoImage() {
-        try {
-            // Try to load the header logo image from the specific path
-            File logoFile = new File("resources/images/Candidate Search/HeaderLogo.png");
-            if (logoFile.exists()) {
-                headerLogoImage = ImageIO.read(logoFile);
-                System.out.println("Header logo loaded successfully from: " + logoFile.getAbsolutePath());
-            } else {
-                System.out.println("Header logo file not found at: " + logoFile.getAbsolutePath());
-                
-                // Try alternative locations as backup
-                String[] alternativePaths = {
-                    "resources/images/HeaderLogo.png",
-                    "HeaderLogo.png",
-                    "images/HeaderLogo.png",
-                    "images/Candidate Search/HeaderLogo.png",
-                    "../resources/images/Candidate Search/HeaderLogo.png"
-                };
-                
-                for (String path : alternativePaths) {
-                    File altFile = new File(path);
-                    if (altFile.exists()) {
-                        headerLogoImage = ImageIO.read(altFile);
-                        System.out.println("Header logo loaded from alternative path: " + altFile.getAbsolutePath());
-                        break;
-                    }
-                }
-            }
-            
-            // If we still couldn't find the logo, use a different approach with resource stream
-            if (headerLogoImage == null) {
-                // Do not use text, continue trying to find the image
-                System.out.println("Still looking for the logo in additional locations...");
-                
-                // Try using class loader resource stream as a last resort
-                try {
-                    ClassLoader classLoader = getClass().getClassLoader();
-                    java.net.URL resourceURL = classLoader.getResource("resources/images/Candidate Search/HeaderLogo.png");
-                    if (resourceURL != null) {
-                        headerLogoImage = ImageIO.read(resourceURL);
-                        System.out.println("Header logo loaded using class loader.");
-                    }
-                } catch (Exception e) {
-                    System.out.println("Error loading with class loader: " + e.getMessage());
-                }
-            }
-            
-            // Last resort - create a blank image for the logo
-            // This ensures we always have an image instead of falling back to text
-            if (headerLogoImage == null) {
-                System.err.println("WARNING: Could not load HeaderLogo.png from any location. Creating blank image.");
-                // Create a blank image with appropriate dimensions for a logo
-                headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g = headerLogoImage.createGraphics();
-                g.setColor(new Color(0, 0, 0, 0)); // Transparent
-                g.fillRect(0, 0, 150, 40);
-                g.dispose();
-            }
-        } catch (IOException e) {
-            System.out.println("Error loading header logo: " + e.getMessage());
-            e.printStackTrace();
-            
-            // Create blank image even after exception
+        headerLogoImage = IconAtlas.getIcon("Candidate Search/HeaderLogo.png");
+        
+        // If still couldn't find the logo, create a blank image
+        if (headerLogoImage == null) {
             headerLogoImage = new BufferedImage(150, 40, BufferedImage.TYPE_INT_ARGB);
             Graphics2D g = headerLogoImage.createGraphics();
             g.setColor(new Color(0, 0, 0, 0)); // Transparent
@@ -1484,11 +1416,40 @@ public class CandidateSearchUI extends JFrame {
     
     // Add the method to handle redirection to landing page
     private void navigateToLandingPage() {
-        // Stop any background operations first
-        stopBackgroundTasks();
+        // Pause background operations first; the window is kept with its search and filters
+        pauseBackgroundTasks();
         
         // Use fade transition to navigate to landing page
-        WindowTransitionManager.fadeTransition(this, () -> new LandingPageUI());
+        WindowTransitionManager.fadeTransition(this, WindowRegistry.reuse(LandingPageUI.class, LandingPageUI::new));
+    }
+    
+    /**
+     * Pauses background tasks when the window is hidden for reuse, keeping the search and filters
+     */
+    private void pauseBackgroundTasks() {
+        if (searchTimer != null && searchTimer.isRunning()) {
+            searchTimer.stop();
+            searchPending = true;
+        }
+        
+        if (cardPanel != null) {
+            cardPanel.pauseBackgroundOperations();
+        }
+    }
+    
+    /**
+     * Restarts the tasks paused by pauseBackgroundTasks when the window is shown again
+     */
+    private void resumeBackgroundTasks() {
+        if (cardPanel != null) {
+            cardPanel.resumeBackgroundOperations();
+        }
+        
+        // A search typed just before leaving runs after the usual typing delay
+        if (searchPending) {
+            searchPending = false;
+            searchTimer.restart();
+        }
     }
     
     /**
@@ -9,6 +9,8 @@ import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
 import java.util.function.Consumer;
+import util.FontRegistry;
+import util.IconAtlas;
 
 /**
  * A modular filter dropdown component that can be reused across the application.
@@ -126,7 +128,7 @@ public class FilterDropdown {
                 
                 // Set font - use interMedium if available (with default letter spacing)
                 if (interMedium != null) {
-                    g2d.setFont(interMedium.deriveFont(fontSize));
+                    g2d.setFont(FontRegistry.derive(interMedium, fontSize));
                 } else {
                     g2d.setFont(new Font("Sans-Serif", Font.PLAIN, (int)fontSize));
                 }
@@ -195,30 +197,9 @@ public class FilterDropdown {
      * Load the arrow down image from resources
      */
     private BufferedImage loadArrowImage() {
-        BufferedImage arrowDownImage = null;
-        try {
-            File arrowFile = new File("resources/images/candidate search/arrow_down.png");
-            if (arrowFile.exists()) {
-                arrowDownImage = ImageIO.read(arrowFile);
-            } else {
-                // Try alternative locations
-                String[] alternativePaths = {
-                    "resources/images/candidate search/arrow_down.png",
-                    "resources/images/Candidate Search/arrow_down.png",
-                    "resources/images/arrow_down.png",
-                    "arrow_down.png"
-                };
-                
-                for (String path : alternativePaths) {
-                    File altFile = new File(path);
-                    if (altFile.exists()) {
-                        arrowDownImage = ImageIO.read(altFile);
-                        break;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading arrow down image: " + e.getMessage());
+        BufferedImage arrowDownImage = IconAtlas.getIcon("Candidate Search/arrow_down.png");
+        if (arrowDownImage == null) {
+            System.err.println("Error loading arrow down image");
         }
         return arrowDownImage;
     }
@@ -461,7 +442,7 @@ public class FilterDropdown {
                     // Draw label
                     g2d.setColor(TEXT_COLOR);
                     if (interRegular != null) {
-                        g2d.setFont(interRegular.deriveFont(14f));
+                        g2d.setFont(FontRegistry.derive(interRegular, 14f));
                     } else {
                         g2d.setFont(new Font("Sans-Serif", Font.PLAIN, 14));
                     }
@@ -508,7 +489,7 @@ public class FilterDropdown {
                     // Draw label
                     g2d.setColor(TEXT_COLOR);
                     if (interRegular != null) {
-                        g2d.setFont(interRegular.deriveFont(14f));
+                        g2d.setFont(FontRegistry.derive(interRegular, 14f));
                     } else {
                         g2d.setFont(new Font("Sans-Serif", Font.PLAIN, 14));
                     }
@@ -609,29 +590,9 @@ public class FilterDropdown {
      * Load the checkmark image from resources
      */
     private BufferedImage loadCheckmarkImage() {
-        BufferedImage checkmarkImage = null;
-        try {
-            File checkmarkFile = new File("resources/images/candidate search/checkmark.png");
-            if (checkmarkFile.exists()) {
-                checkmarkImage = ImageIO.read(checkmarkFile);
-            } else {
-                // Try alternative paths
-                String[] alternativePaths = {
-                    "resources/images/candidate search/checkmark.png",
-                    "resources/images/Candidate Search/checkmark.png",
-                    "resources/images/checkmark.png"
-                };
-                
-                for (String path : alternativePaths) {
-                    File altFile = new File(path);
-                    if (altFile.exists()) {
-                        checkmarkImage = ImageIO.read(altFile);
-                        break;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading checkmark image: " + e.getMessage());
+        BufferedImage checkmarkImage = IconAtlas.getIcon("Candidate Search/checkmark.png");
+        if (checkmarkImage == null) {
+            System.err.println("Error loading checkmark image");
         }
         return checkmarkImage;
     }
@@ -12,6 +12,7 @@ import javax.imageio.ImageIO;
 import java.util.function.Consumer;
 import java.util.ArrayList;
 import java.util.List;
+import util.FontRegistry;
 
 /**
  * A modular province selector dropdown component based on FilterDropdown.
@@ -142,7 +143,7 @@ public class ProvinceDropdown {
                 
                 // Use provided font or fall back
                 Font font = interRegular != null ? 
-                    interRegular.deriveFont(13f) : 
+                    FontRegistry.derive(interRegular, 13f) : 
                     new Font("Sans-Serif", Font.PLAIN, 13);
                 g2d.setFont(font);
                 
@@ -335,7 +336,7 @@ public class ProvinceDropdown {
         
         JLabel label = new JLabel(region);
         if (interRegular != null) {
-            label.setFont(interRegular.deriveFont(13f));
+            label.setFont(FontRegistry.derive(interRegular, 13f));
         } else {
             label.setFont(new Font("Sans-Serif", Font.PLAIN, 13));
         }
@@ -12,8 +12,9 @@ import java.util.ArrayList;
 import backend.model.CandidateDataLoader;
 import backend.model.CandidateDataLoader.Candidate;
 import java.io.File;
-import javax.imageio.ImageIO;
 import java.io.IOException;
+import util.FontRegistry;
+import util.ImageCache;
 
 /**
  * Popup window to display detailed candidate information when a candidate card is clicked.
@@ -94,25 +95,20 @@ public class ViewCandidate extends JDialog {
             File interMediumFile = new File("lib/fonts/Inter_18pt-Medium.ttf");
             File interSemiBoldFile = new File("lib/fonts/Inter_18pt-SemiBold.ttf");
             
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            
             if (interRegularFile.exists()) {
-                interRegular = Font.createFont(Font.TRUETYPE_FONT, interRegularFile).deriveFont(14f);
-                ge.registerFont(interRegular);
+                interRegular = FontRegistry.getFont(interRegularFile).deriveFont(14f);
             } else {
                 interRegular = new Font("Sans-Serif", Font.PLAIN, 14);
             }
             
             if (interMediumFile.exists()) {
-                interMedium = Font.createFont(Font.TRUETYPE_FONT, interMediumFile).deriveFont(14f);
-                ge.registerFont(interMedium);
+                interMedium = FontRegistry.getFont(interMediumFile).deriveFont(14f);
             } else {
                 interMedium = new Font("Sans-Serif", Font.PLAIN, 14);
             }
             
             if (interSemiBoldFile.exists()) {
-                interSemiBold = Font.createFont(Font.TRUETYPE_FONT, interSemiBoldFile).deriveFont(16f);
-                ge.registerFont(interSemiBold);
+                interSemiBold = FontRegistry.getFont(interSemiBoldFile).deriveFont(16f);
             } else {
                 interSemiBold = new Font("Sans-Serif", Font.BOLD, 16);
             }
@@ -171,7 +167,7 @@ public class ViewCandidate extends JDialog {
         
         // Title label
         titleLabel = new JLabel("Candidate Profile");
-        titleLabel.setFont(interSemiBold != null ? interSemiBold.deriveFont(22f) : new Font("Inter", Font.BOLD, 22));
+        titleLabel.setFont(interSemiBold != null ? FontRegistry.derive(interSemiBold, 22f) : new Font("Inter", Font.BOLD, 22));
         titleLabel.setForeground(TEXT_COLOR);
         
         // Close button
@@ -329,7 +325,7 @@ public class ViewCandidate extends JDialog {
         // Add name label (will be updated later)
         JLabel nameLabel = new JLabel("Candidate Profile");
         nameLabel.setFont(interSemiBold != null ? 
-                         interSemiBold.deriveFont(18f) : 
+                         FontRegistry.derive(interSemiBold, 18f) : 
                          new Font("Sans-Serif", Font.BOLD, 18));
         nameLabel.setForeground(TEXT_COLOR);
         nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -390,7 +386,7 @@ public class ViewCandidate extends JDialog {
         // Add label
         JLabel titleLabel = new JLabel(label);
         titleLabel.setFont(interMedium != null ? 
-                          interMedium.deriveFont(14f) : 
+                          FontRegistry.derive(interMedium, 14f) : 
                           new Font("Sans-Serif", Font.BOLD, 14));
         titleLabel.setForeground(ACCENT_COLOR);
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -402,7 +398,7 @@ public class ViewCandidate extends JDialog {
         // Add value
         JLabel valueLabel = new JLabel(value.isEmpty() ? "No data available" : value);
         valueLabel.setFont(interRegular != null ? 
-                         interRegular.deriveFont(14f) : 
+                         FontRegistry.derive(interRegular, 14f) : 
                          new Font("Sans-Serif", Font.PLAIN, 14));
         valueLabel.setForeground(TEXT_COLOR);
         valueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -492,29 +488,11 @@ public class ViewCandidate extends JDialog {
      * Load the candidate's image
      */
     private void loadCandidateImage() {
-        try {
-            // Try to load from candidate data
-            String imagePath = candidateData.getImagePath();
-            if (imagePath != null && !imagePath.isEmpty()) {
-                File imageFile = new File(imagePath);
-                if (imageFile.exists()) {
-                    candidateImage = ImageIO.read(imageFile);
-                    return;
-                }
-            }
-            
-            // If no image found, load default
-            File defaultImage = new File("resources/images/defaultprofpic.png");
-            if (defaultImage.exists()) {
-                candidateImage = ImageIO.read(defaultImage);
-            } else {
-                // Create blank image as fallback
-                candidateImage = new BufferedImage(profileImageWidth, profileImageHeight, BufferedImage.TYPE_INT_ARGB);
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading candidate image: " + e.getMessage());
-            // Create blank image as fallback
-            candidateImage = new BufferedImage(profileImageWidth, profileImageHeight, BufferedImage.TYPE_INT_ARGB);
+        candidateImage = ImageCache.getInstance().getImage(candidateData.getImagePath());
+        
+        // If no image found, use default
+        if (candidateImage == null) {
+            candidateImage = ImageCache.getInstance().getDefaultProfileImage();
         }
     }
     
@@ -646,7 +624,7 @@ public class ViewCandidate extends JDialog {
         
         // Section title
         JLabel sectionTitle = new JLabel(title);
-        sectionTitle.setFont(interSemiBold != null ? interSemiBold.deriveFont(16f) : new Font("Inter", Font.BOLD, 16));
+        sectionTitle.setFont(interSemiBold != null ? FontRegistry.derive(interSemiBold, 16f) : new Font("Inter", Font.BOLD, 16));
         sectionTitle.setForeground(ACCENT_COLOR);
         sectionTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -661,13 +639,13 @@ public class ViewCandidate extends JDialog {
             itemPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
             
             JLabel bulletLabel = new JLabel("•");
-            bulletLabel.setFont(interRegular != null ? interRegular.deriveFont(16f) : new Font("Inter", Font.BOLD, 16));
+            bulletLabel.setFont(interRegular != null ? FontRegistry.derive(interRegular, 16f) : new Font("Inter", Font.BOLD, 16));
             bulletLabel.setForeground(ACCENT_COLOR);
             
             // Use HTML for text wrapping
             String wrappedText = "<html><body style='width: 100%'>" + item + "</body></html>";
             JLabel textLabel = new JLabel(wrappedText);
-            textLabel.setFont(interRegular != null ? interRegular.deriveFont(14f) : new Font("Inter", Font.PLAIN, 14));
+            textLabel.setFont(interRegular != null ? FontRegistry.derive(interRegular, 14f) : new Font("Inter", Font.PLAIN, 14));
             textLabel.setForeground(TEXT_COLOR);
             
             itemPanel.add(bulletLabel, BorderLayout.WEST);
@@ -693,7 +671,7 @@ public class ViewCandidate extends JDialog {
         
         // Section title
         JLabel sectionTitle = new JLabel("Social Stances");
-        sectionTitle.setFont(interSemiBold != null ? interSemiBold.deriveFont(16f) : new Font("Inter", Font.BOLD, 16));
+        sectionTitle.setFont(interSemiBold != null ? FontRegistry.derive(interSemiBold, 16f) : new Font("Inter", Font.BOLD, 16));
         sectionTitle.setForeground(ACCENT_COLOR);
         sectionTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -716,11 +694,11 @@ public class ViewCandidate extends JDialog {
             // Use HTML for text wrapping
             String wrappedText = "<html><body style='width: 100%'>" + issue + "</body></html>";
             JLabel issueLabel = new JLabel(wrappedText);
-            issueLabel.setFont(interRegular != null ? interRegular.deriveFont(14f) : new Font("Inter", Font.PLAIN, 14));
+            issueLabel.setFont(interRegular != null ? FontRegistry.derive(interRegular, 14f) : new Font("Inter", Font.PLAIN, 14));
             issueLabel.setForeground(TEXT_COLOR);
             
             JLabel positionIndicator = new JLabel(position);
-            positionIndicator.setFont(interMedium != null ? interMedium.deriveFont(14f) : new Font("Inter", Font.BOLD, 14));
+            positionIndicator.setFont(interMedium != null ? FontRegistry.derive(interMedium, 14f) : new Font("Inter", Font.BOLD, 14));
             
             // Set color based on position
             Color positionColor;
@@ -0,0 +1,91 @@
+package frontend.utils;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import backend.model.CandidateDataLoader;
+import frontend.comparison.CandidateComparisonUI;
+import frontend.comparison.CandidateDataManager;
+import frontend.overview.CandidateOverviewUI;
+import frontend.search.CandidateSearchUI;
+import util.BackdropCache;
+import util.FontRegistry;
+import util.IconAtlas;
+import util.ThumbnailCache;
+
+/**
+ * Loads what a screen needs before the user opens it.
+ *
+ * Hovering or focusing a landing page button starts loading the target screen's
+ * fonts, images, candidate data and avatar thumbnails on a background thread. By the
+ * time the fade transition builds the window those loads are cache hits, so the fade
+ * hides work that has already finished instead of waiting on it.
+ */
+public class ScreenPrewarmer {
+    // Screens queued or loading, so repeated hovers do not queue the same work
+    private static final Set<Class<?>> pending = ConcurrentHashMap.newKeySet();
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screen-prewarm");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * Start loading a screen's resources unless its window is already built
+     *
+     * @param screen The screen the user is likely to open next
+     */
+    public static void prewarm(Class<? extends JFrame> screen) {
+        if (WindowRegistry.isRetained(screen) || !pending.add(screen)) {
+            return;
+        }
+        executor.submit(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                warm(screen);
+                System.out.println("Prewarmed " + screen.getSimpleName() + " in "
+                        + (System.currentTimeMillis() - start) + "ms");
+            } catch (RuntimeException e) {
+                System.err.println("Error prewarming " + screen.getSimpleName() + ": " + e.getMessage());
+            } finally {
+                pending.remove(screen);
+            }
+        });
+    }
+
+    private static void warm(Class<?> screen) {
+        // Shared by every screen
+        for (String weight : new String[] {FontRegistry.BLACK, FontRegistry.BOLD, FontRegistry.SEMI_BOLD,
+                                           FontRegistry.MEDIUM, FontRegistry.REGULAR}) {
+            FontRegistry.getInter(weight);
+        }
+        IconAtlas.getIcon("Candidate Search/HeaderLogo.png");
+        BackdropCache.getBackdropImage();
+
+        if (screen == CandidateSearchUI.class) {
+            warmCandidates(ThumbnailCache.CARD_AVATAR_SIZE);
+        } else if (screen == CandidateOverviewUI.class) {
+            warmCandidates(ThumbnailCache.LIST_AVATAR_SIZE);
+        } else if (screen == CandidateComparisonUI.class) {
+            CandidateDataManager.getSocialStanceTopics();
+        } else {
+            CandidateDataLoader.loadCandidates();
+        }
+    }
+
+    /**
+     * Parse the candidate list and load every avatar at the given size
+     */
+    private static void warmCandidates(int avatarSize) {
+        List<CandidateDataLoader.Candidate> candidates = CandidateDataLoader.loadCandidates();
+        for (CandidateDataLoader.Candidate candidate : candidates) {
+            ThumbnailCache.getInstance().getThumbnail(candidate.getImagePath(), avatarSize);
+        }
+    }
+}
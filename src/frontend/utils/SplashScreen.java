@@ -9,6 +9,8 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
+import util.IconAtlas;
+import util.StartupTrace;
 
 /**
  * A splash screen that displays when the application first launches.
@@ -144,7 +146,12 @@ public class SplashScreen extends JFrame {
         try {
             File emblemFile = new File("resources/images/HeaderEmblem.png");
             if (emblemFile.exists()) {
-                emblemImage = ImageIO.read(emblemFile);
+                StartupTrace.Span span = StartupTrace.begin("image", emblemFile.getName());
+                try {
+                    emblemImage = ImageIO.read(emblemFile);
+                } finally {
+                    span.close();
+                }
                 System.out.println("Loaded Gabay Header Emblem for splash screen");
             } else {
                 System.err.println("Gabay Header Emblem file not found at: " + emblemFile.getAbsolutePath());
@@ -174,36 +181,13 @@ public class SplashScreen extends JFrame {
      * Load the progress head image
      */
     private void loadProgressHeadImage() {
-        try {
-            // Try to load directly from resources/images folder
-            File imageFile = new File("resources/images/progress_hea.png");
-            if (imageFile.exists()) {
-                progressHeadImage = ImageIO.read(imageFile);
-                System.out.println("Loaded progress head image for splash screen");
-                return;
-            }
-            
-            // If not found, try alternative paths
-            String[] alternativePaths = {
-                "resources/images/quiz/progress_hea.png",
-                "lib/images/progress_hea.png",
-                "../resources/images/progress_hea.png"
-            };
-            
-            for (String path : alternativePaths) {
-                File altFile = new File(path);
-                if (altFile.exists()) {
-                    progressHeadImage = ImageIO.read(altFile);
-                    System.out.println("Loaded progress head image from: " + path);
-                    return;
-                }
-            }
-            
-            // If still null, create a default image
-            createDefaultHeadImage();
-        } catch (IOException e) {
-            System.err.println("Error loading progress head image: " + e.getMessage());
+        progressHeadImage = IconAtlas.getIcon("progress_hea.png");
+        
+        // If not found, create a default image
+        if (progressHeadImage == null) {
             createDefaultHeadImage();
+        } else {
+            System.out.println("Loaded progress head image for splash screen");
         }
     }
     
@@ -244,8 +228,14 @@ public class SplashScreen extends JFrame {
                         firstLaunch = false;
                         
                         // Launch the landing page
-                        frontend.landingpage.LandingPageUI ui = new frontend.landingpage.LandingPageUI();
-                        ui.setVisible(true);
+                        StartupTrace.Span span = StartupTrace.begin("frame", "open LandingPageUI");
+                        try {
+                            frontend.landingpage.LandingPageUI ui = WindowRegistry.getOrCreate(
+                                frontend.landingpage.LandingPageUI.class, frontend.landingpage.LandingPageUI::new);
+                            ui.setVisible(true);
+                        } finally {
+                            span.close();
+                        }
                     });
                 }
                 
@@ -262,6 +252,7 @@ public class SplashScreen extends JFrame {
      */
     public void showSplash() {
         setVisible(true);
+        StartupTrace.instant("splash shown");
         progressTimer.start();
     }
     
@@ -2,6 +2,7 @@ package frontend.utils;
 
 import javax.swing.*;
 import frontend.landingpage.LandingPageUI;
+import util.StartupTrace;
 
 /**
  * Main application launcher class.
@@ -14,16 +15,22 @@ public class SplashScreenLauncher {
      * @param args Command line arguments
      */
     public static void main(String[] args) {
+        StartupTrace.instant("main");
         SwingUtilities.invokeLater(() -> {
-            // Check if this is the first launch
-            if (SplashScreen.isFirstLaunch()) {
-                // Show splash screen
-                SplashScreen splash = new SplashScreen();
-                splash.showSplash();
-            } else {
-                // Skip splash screen and launch directly
-                LandingPageUI ui = new LandingPageUI();
-                ui.setVisible(true);
+            StartupTrace.Span span = StartupTrace.begin("frame", "launch");
+            try {
+                // Check if this is the first launch
+                if (SplashScreen.isFirstLaunch()) {
+                    // Show splash screen
+                    SplashScreen splash = new SplashScreen();
+                    splash.showSplash();
+                } else {
+                    // Skip splash screen and launch directly
+                    LandingPageUI ui = WindowRegistry.getOrCreate(LandingPageUI.class, LandingPageUI::new);
+                    ui.setVisible(true);
+                }
+            } finally {
+                span.close();
             }
         });
     }
@@ -0,0 +1,124 @@
+package frontend.utils;
+
+import javax.swing.*;
+import util.StartupTrace;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the main screens alive between visits.
+ *
+ * A window built through the registry is hidden instead of disposed when the user
+ * navigates away, and shown again with its state intact the next time its screen is
+ * opened, so moving between screens does not rebuild fonts, images, data and
+ * components. Hidden windows are dropped, least recently used first, when more than
+ * a few are retained or the heap is getting full.
+ */
+public class WindowRegistry {
+    // Hidden windows kept at most
+    private static final int MAX_RETAINED_WINDOWS = 4;
+
+    // Hidden windows are dropped once the heap is fuller than this fraction
+    private static final double MAX_HEAP_FRACTION = 0.75;
+
+    // One window per screen class
+    private static final Map<Class<?>, JFrame> windows = new HashMap<>();
+
+    // Hidden windows, least recently used first
+    private static final LinkedHashMap<Class<?>, JFrame> hidden = new LinkedHashMap<>();
+
+    /**
+     * Get a supplier for fadeTransition that reuses the screen's window if one is retained
+     *
+     * @param type The screen's window class
+     * @param factory Builds the window if none is retained
+     */
+    public static <T extends JFrame> Supplier<JFrame> reuse(Class<T> type, Supplier<T> factory) {
+        return () -> getOrCreate(type, factory);
+    }
+
+    /**
+     * Get the retained window for a screen, or build and register a new one
+     *
+     * @param type The screen's window class
+     * @param factory Builds the window if none is retained
+     */
+    public static <T extends JFrame> T getOrCreate(Class<T> type, Supplier<T> factory) {
+        JFrame window = windows.get(type);
+        if (window != null && window.isDisplayable()) {
+            hidden.remove(type);
+            System.out.println("Reusing " + type.getSimpleName());
+            return type.cast(window);
+        }
+
+        T created;
+        StartupTrace.Span span = StartupTrace.begin("frame", "new " + type.getSimpleName());
+        try {
+            created = factory.get();
+        } finally {
+            span.close();
+        }
+        windows.put(type, created);
+        return created;
+    }
+
+    /**
+     * Check whether a screen's window is built and can be shown without construction
+     */
+    public static boolean isRetained(Class<? extends JFrame> type) {
+        JFrame window = windows.get(type);
+        return window != null && window.isDisplayable();
+    }
+
+    /**
+     * Take a window off screen after navigating away from it.
+     * Registered windows are hidden for reuse; any other window is disposed.
+     */
+    public static void release(JFrame window) {
+        Class<?> type = window.getClass();
+        if (windows.get(type) != window) {
+            window.dispose();
+            return;
+        }
+
+        window.setVisible(false);
+        hidden.remove(type);
+        hidden.put(type, window);
+        trimToBudget();
+    }
+
+    /**
+     * Dispose all hidden windows, e.g. after the candidate data they show has changed
+     */
+    public static void discardHidden() {
+        List<Class<?>> types = new ArrayList<>(hidden.keySet());
+        for (Class<?> type : types) {
+            discard(type);
+        }
+    }
+
+    private static void trimToBudget() {
+        while (!hidden.isEmpty() && (hidden.size() > MAX_RETAINED_WINDOWS || isHeapTight())) {
+            discard(hidden.keySet().iterator().next());
+        }
+    }
+
+    private static boolean isHeapTight() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return used > runtime.maxMemory() * MAX_HEAP_FRACTION;
+    }
+
+    private static void discard(Class<?> type) {
+        JFrame window = hidden.remove(type);
+        if (window != null) {
+            windows.remove(type);
+            window.dispose();
+            System.out.println("Discarded retained " + type.getSimpleName());
+        }
+    }
+}
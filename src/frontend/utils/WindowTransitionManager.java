@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
+import util.StartupTrace;
 
 /**
  * Utility class to handle page transitions with a white fade and fading emblem effect
@@ -25,6 +26,7 @@ public class WindowTransitionManager {
     
     // Load the emblem image once
     static {
+        StartupTrace.Span span = StartupTrace.begin("clinit", "WindowTransitionManager");
         try {
             File emblemFile = new File("resources/images/GabayEmblem.png");
             if (emblemFile.exists()) {
@@ -36,6 +38,8 @@ public class WindowTransitionManager {
             }
         } catch (IOException e) {
             System.err.println("Error loading Gabay Emblem: " + e.getMessage());
+        } finally {
+            span.close();
         }
     }
     
@@ -43,7 +47,8 @@ public class WindowTransitionManager {
      * Transition from the current window to a new window with a white fade and fading emblem effect
      * 
      * @param currentWindow The current window to fade out
-     * @param newWindowSupplier A supplier that creates the new window
+     * @param newWindowSupplier A supplier that creates the new window, or returns a
+     *                          retained one via {@link WindowRegistry#reuse}
      */
     public static void fadeTransition(JFrame currentWindow, Supplier<JFrame> newWindowSupplier) {
         // Save current window size and position
@@ -176,8 +181,8 @@ public class WindowTransitionManager {
                                         // Show the new window (still covered by the fade)
                                         newWindow.setVisible(true);
                                         
-                                        // Dispose the old window
-                                        currentWindow.dispose();
+                                        // Hide the old window for reuse, or dispose it
+                                        WindowRegistry.release(currentWindow);
                                         
                                         // Start fade in timer
                                         Timer fadeInTimer = new Timer(FADE_DURATION / FADE_STEPS, new ActionListener() {
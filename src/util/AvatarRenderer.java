@@ -0,0 +1,208 @@
+package util;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Circular candidate avatars shared by every candidate list.
+ *
+ * An avatar is either the candidate's photo cropped to a circle or, without a photo,
+ * a colored circle with the candidate's initials. Each one is rasterized once per
+ * (photo or name, diameter, display scale, border color) at the display's resolution,
+ * so the same avatar shown in several views or cards is drawn only once and stays
+ * sharp on HiDPI screens.
+ */
+public class AvatarRenderer {
+
+    // Initials avatars kept, keyed by name
+    private static final int MAX_INITIALS_AVATARS = 256;
+
+    // Photo avatars per source image; entries go away with their photo
+    private static final Map<BufferedImage, Map<String, BufferedImage>> photoAvatars = new WeakHashMap<>();
+
+    private static final Map<String, BufferedImage> initialsAvatars =
+            new LinkedHashMap<String, BufferedImage>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                    return size() > MAX_INITIALS_AVATARS;
+                }
+            };
+
+    private AvatarRenderer() {
+    }
+
+    /**
+     * Paint an avatar with its top-left corner at (0, 0)
+     *
+     * @param g Graphics to paint into
+     * @param photo Candidate photo, or null to draw initials
+     * @param name Candidate name, used for the initials and their color
+     * @param diameter Avatar diameter in logical pixels
+     * @param border Color of the circle outline
+     */
+    public static void paintAvatar(Graphics g, BufferedImage photo, String name, int diameter, Color border) {
+        if (diameter <= 0) {
+            return;
+        }
+        BufferedImage avatar = getAvatar(photo, name, diameter, border);
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(avatar, 0, 0, diameter, diameter, null);
+        g2d.dispose();
+    }
+
+    /**
+     * Get an avatar bitmap at the display's resolution
+     */
+    public static BufferedImage getAvatar(BufferedImage photo, String name, int diameter, Color border) {
+        double scale = ScaledImageCache.getDeviceScale();
+        String key = diameter + "@" + scale + "/" + border.getRGB();
+
+        synchronized (AvatarRenderer.class) {
+            BufferedImage avatar = photo != null
+                    ? photoAvatars.computeIfAbsent(photo, k -> new LinkedHashMap<>()).get(key)
+                    : initialsAvatars.get(key + "/" + name);
+            if (avatar != null) {
+                return avatar;
+            }
+
+            avatar = renderAvatar(photo, name, diameter, scale, border);
+            if (photo != null) {
+                photoAvatars.get(photo).put(key, avatar);
+            } else {
+                initialsAvatars.put(key + "/" + name, avatar);
+            }
+            return avatar;
+        }
+    }
+
+    private static BufferedImage renderAvatar(BufferedImage photo, String name, int diameter, double scale, Color border) {
+        int pixels = (int) Math.ceil(diameter * scale);
+        BufferedImage result = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = result.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        // Draw background as transparent
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, pixels, pixels);
+        g2d.setComposite(AlphaComposite.SrcOver);
+
+        // Draw in logical pixels at the display's scale
+        g2d.scale(scale, scale);
+
+        if (photo != null) {
+            // Create a circular clip
+            Shape clip = new Ellipse2D.Double(0, 0, diameter, diameter);
+            g2d.setClip(clip);
+
+            // Fill the circle, keeping the photo's aspect ratio
+            double imageScale = Math.max(
+                (double) diameter / photo.getWidth(),
+                (double) diameter / photo.getHeight()
+            );
+            int scaledWidth = (int) (photo.getWidth() * imageScale);
+            int scaledHeight = (int) (photo.getHeight() * imageScale);
+
+            // Draw image centered in the circle
+            int x = (diameter - scaledWidth) / 2;
+            int y = (diameter - scaledHeight) / 2;
+            g2d.drawImage(photo, x, y, scaledWidth, scaledHeight, null);
+
+            // Reset clip and draw border
+            g2d.setClip(null);
+            g2d.setColor(border);
+            g2d.setStroke(new BasicStroke(1));
+            g2d.draw(clip);
+        } else {
+            // If no image, draw a colored circle with initials
+            g2d.setColor(getColorFromName(name));
+            g2d.fillOval(0, 0, diameter, diameter);
+
+            String initials = getInitials(name);
+            g2d.setColor(Color.WHITE);
+
+            // Use a simple font to avoid font loading overhead
+            g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, diameter / 3));
+
+            // Center the text
+            FontMetrics fm = g2d.getFontMetrics();
+            int textX = (diameter - fm.stringWidth(initials)) / 2;
+            int textY = (diameter - fm.getHeight()) / 2 + fm.getAscent();
+            g2d.drawString(initials, textX, textY);
+
+            // Draw border
+            g2d.setColor(border);
+            g2d.setStroke(new BasicStroke(1));
+            g2d.drawOval(0, 0, diameter - 1, diameter - 1);
+        }
+
+        g2d.dispose();
+        return result;
+    }
+
+    /**
+     * Get up to two initials from a candidate name
+     */
+    public static String getInitials(String name) {
+        if (name == null || name.isEmpty()) {
+            return "??";
+        }
+
+        StringBuilder initials = new StringBuilder();
+        String[] parts = name.split("\\s+");
+
+        // Get first letter of first name
+        if (parts.length > 0 && !parts[0].isEmpty()) {
+            initials.append(parts[0].charAt(0));
+        }
+
+        // Get first letter of last name if available
+        if (parts.length > 1 && !parts[parts.length - 1].isEmpty()) {
+            initials.append(parts[parts.length - 1].charAt(0));
+        } else if (initials.length() < 2 && parts[0].length() > 1) {
+            // If only one name and initials is still short, use first two letters
+            initials.append(parts[0].charAt(1));
+        }
+
+        return initials.toString().toUpperCase();
+    }
+
+    /**
+     * Get a stable background color for a candidate's initials
+     */
+    public static Color getColorFromName(String name) {
+        if (name == null || name.isEmpty()) {
+            return new Color(0x2F, 0x39, 0x8E); // Default blue
+        }
+
+        // Calculate a hash code for the name
+        int hash = name.hashCode();
+
+        // Use different prime numbers for each color component
+        int r = Math.abs(hash % 256);
+        int g = Math.abs((hash / 256) % 256);
+        int b = Math.abs((hash / 65536) % 256);
+
+        // Ensure the color isn't too light (for white text contrast)
+        r = Math.min(r, 180);
+        g = Math.min(g, 180);
+        b = Math.min(b, 180);
+
+        return new Color(r, g, b);
+    }
+}
@@ -0,0 +1,330 @@
+package util;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional store of every candidate avatar thumbnail as raw pixels in one file.
+ *
+ * Thumbnails are saved as premultiplied ARGB pixel blocks behind a small index and the
+ * file is memory-mapped, so loading an avatar is a copy of its pixels instead of a
+ * PNG or JPEG decode. Entries are named like the thumbnail files, by source path,
+ * modification time and size, so a changed photo is simply not found and falls back
+ * to the regular thumbnail cache until the store is rebuilt.
+ *
+ * Enabled with -Dgabay.avatarStore=true. The file lives next to the thumbnails.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * int magic, int version, int count
+ * count x { short nameLength, byte[] name, int width, int height, long offset }
+ * pixel blocks, width * height ints each
+ * </pre>
+ */
+public class AvatarStore {
+
+    public static final boolean ENABLED = Boolean.getBoolean("gabay.avatarStore");
+
+    private static final File STORE_FILE = new File(ThumbnailCache.CACHE_DIR, "avatars.bin");
+
+    private static final int MAGIC = 0x47424156; // "GBAV"
+    private static final int VERSION = 1;
+
+    private static final AvatarStore instance = new AvatarStore();
+
+    private static final ExecutorService buildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "avatar-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Current mapping, replaced as a whole after a rebuild
+    private volatile Mapping mapping;
+    private boolean opened = false;
+
+    private AvatarStore() {
+    }
+
+    /**
+     * Get the shared avatar store
+     */
+    public static AvatarStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get a thumbnail from the store
+     *
+     * @param source Original image file
+     * @param pixels Thumbnail size in device pixels
+     * @return The thumbnail, or null if the store is disabled or has no current entry
+     */
+    public BufferedImage get(File source, int pixels) {
+        if (!ENABLED || !source.exists()) {
+            return null;
+        }
+        Mapping current = getMapping();
+        if (current == null) {
+            return null;
+        }
+        Entry entry = current.entries.get(entryName(source, pixels));
+        if (entry == null) {
+            return null;
+        }
+
+        BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        ByteBuffer pixelBuffer = current.buffer.duplicate();
+        pixelBuffer.position((int) entry.offset);
+        IntBuffer ints = pixelBuffer.asIntBuffer();
+        ints.get(data, 0, entry.width * entry.height);
+        return image;
+    }
+
+    /**
+     * Rebuild the store in the background if any of the given photos is missing from it
+     *
+     * @param imagePaths Photo paths of all candidates
+     */
+    public void updateAsync(Collection<String> imagePaths) {
+        if (!ENABLED) {
+            return;
+        }
+        List<String> paths = new ArrayList<>(imagePaths);
+        buildExecutor.submit(() -> {
+            int[] sizes = avatarPixelSizes();
+            Set<File> sources = existingFiles(paths);
+
+            Mapping current = getMapping();
+            boolean complete = current != null;
+            for (File source : sources) {
+                for (int pixels : sizes) {
+                    if (!complete || !current.entries.containsKey(entryName(source, pixels))) {
+                        complete = false;
+                    }
+                }
+            }
+            if (complete) {
+                return;
+            }
+
+            try {
+                long start = System.currentTimeMillis();
+                rebuild(sources, sizes);
+                System.out.println("Rebuilt avatar store with " + sources.size() + " photos in "
+                        + (System.currentTimeMillis() - start) + "ms");
+            } catch (IOException e) {
+                System.err.println("Error building avatar store: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Avatar sizes in device pixels for the current display
+     */
+    private static int[] avatarPixelSizes() {
+        int scale = ThumbnailCache.getScaleFactor();
+        return new int[] {
+            ThumbnailCache.LIST_AVATAR_SIZE * scale,
+            ThumbnailCache.CARD_AVATAR_SIZE * scale
+        };
+    }
+
+    private static Set<File> existingFiles(List<String> paths) {
+        Set<File> files = new LinkedHashSet<>();
+        for (String path : paths) {
+            if (path == null || path.trim().isEmpty()) {
+                continue;
+            }
+            File file = new File(path.trim());
+            if (file.exists()) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Write a new store from the thumbnail cache and switch to it
+     */
+    private void rebuild(Set<File> sources, int[] sizes) throws IOException {
+        int scale = ThumbnailCache.getScaleFactor();
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (File source : sources) {
+            for (int pixels : sizes) {
+                BufferedImage thumbnail = ThumbnailCache.getInstance().getThumbnail(source.getPath(), pixels / scale);
+                if (thumbnail != null) {
+                    names.add(entryName(source, pixels));
+                    images.add(toPremultiplied(thumbnail));
+                }
+            }
+        }
+
+        // Pixel blocks start after the index
+        long offset = 12;
+        for (String name : names) {
+            offset += 2 + name.getBytes(StandardCharsets.US_ASCII).length + 16;
+        }
+
+        if (!ThumbnailCache.CACHE_DIR.exists() && !ThumbnailCache.CACHE_DIR.mkdirs()) {
+            throw new IOException("Cannot create " + ThumbnailCache.CACHE_DIR);
+        }
+        // A new file each time, because a mapped file cannot be replaced on Windows
+        File temp = new File(ThumbnailCache.CACHE_DIR, STORE_FILE.getName() + "." + System.currentTimeMillis() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                byte[] name = names.get(i).getBytes(StandardCharsets.US_ASCII);
+                BufferedImage image = images.get(i);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeInt(image.getWidth());
+                out.writeInt(image.getHeight());
+                out.writeLong(offset);
+                offset += 4L * image.getWidth() * image.getHeight();
+            }
+            for (BufferedImage image : images) {
+                for (int pixel : ((DataBufferInt) image.getRaster().getDataBuffer()).getData()) {
+                    out.writeInt(pixel);
+                }
+            }
+        }
+
+        File mapped = temp;
+        try {
+            Files.move(temp.toPath(), STORE_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            mapped = STORE_FILE;
+        } catch (IOException e) {
+            // The old store is still mapped; the new one is promoted on the next launch
+        }
+        mapping = map(mapped);
+    }
+
+    private static BufferedImage toPremultiplied(BufferedImage image) {
+        BufferedImage result = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = result.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return result;
+    }
+
+    /**
+     * Map the store file on first use, promoting a store left over from a previous run
+     */
+    private synchronized Mapping getMapping() {
+        if (!opened) {
+            opened = true;
+            promotePendingStore();
+            if (STORE_FILE.exists()) {
+                try {
+                    mapping = map(STORE_FILE);
+                } catch (IOException e) {
+                    System.err.println("Ignoring unreadable avatar store: " + e.getMessage());
+                }
+            }
+        }
+        return mapping;
+    }
+
+    private static void promotePendingStore() {
+        File[] pending = ThumbnailCache.CACHE_DIR.listFiles(
+                (dir, name) -> name.startsWith(STORE_FILE.getName() + ".") && name.endsWith(".tmp"));
+        if (pending == null || pending.length == 0) {
+            return;
+        }
+
+        File newest = pending[0];
+        for (File file : pending) {
+            if (file.getName().compareTo(newest.getName()) > 0) {
+                newest = file;
+            }
+        }
+        for (File file : pending) {
+            if (file != newest) {
+                file.delete();
+            }
+        }
+        try {
+            Files.move(newest.toPath(), STORE_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            newest.delete();
+        }
+    }
+
+    private static Mapping map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not an avatar store: " + file);
+            }
+            int count = buffer.getInt();
+            Map<String, Entry> entries = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                Entry entry = new Entry(buffer.getInt(), buffer.getInt(), buffer.getLong());
+                if (entry.offset + 4L * entry.width * entry.height > buffer.capacity()) {
+                    throw new IOException("Truncated avatar store: " + file);
+                }
+                entries.put(new String(name, StandardCharsets.US_ASCII), entry);
+            }
+            return new Mapping(buffer, entries);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt avatar store: " + file, e);
+        }
+    }
+
+    private static String entryName(File source, int pixels) {
+        return ThumbnailCache.diskKey(source) + "_" + pixels;
+    }
+
+    private static class Mapping {
+        final ByteBuffer buffer;
+        final Map<String, Entry> entries;
+
+        Mapping(ByteBuffer buffer, Map<String, Entry> entries) {
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+    }
+
+    private static class Entry {
+        final int width;
+        final int height;
+        final long offset;
+
+        Entry(int width, int height, long offset) {
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package util;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Pre-rendered full-window backgrounds.
+ *
+ * The translucent backdrop drawn behind every main window is scaled, faded and
+ * composited onto the window's background color once per window size, in an image
+ * compatible with the screen. Repaints then copy that layer instead of scaling a
+ * large image with an alpha composite every time.
+ *
+ * With -Dgabay.backdrop.volatile=true the layer is also kept in a VolatileImage so
+ * the copy can stay in video memory.
+ */
+public class BackdropCache {
+
+    public static final String BACKDROP_PATH = "resources/images/Landing-Backdrop.png";
+
+    // Window-sized layers kept, enough for every open window plus a resize in progress
+    private static final int MAX_LAYERS = 4;
+
+    private static final boolean USE_VOLATILE = Boolean.getBoolean("gabay.backdrop.volatile");
+
+    private static final Map<LayerKey, Layer> layers = new LinkedHashMap<LayerKey, Layer>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayerKey, Layer> eldest) {
+            if (size() > MAX_LAYERS) {
+                eldest.getValue().flush();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // Layer last painted into each window, for child components that draw the same background
+    private static final Map<Component, BufferedImage> paintedLayers = new WeakHashMap<>();
+
+    private BackdropCache() {
+    }
+
+    /**
+     * Get the shared backdrop image
+     *
+     * @return The backdrop, or null if it cannot be loaded
+     */
+    public static BufferedImage getBackdropImage() {
+        return ImageCache.getInstance().getImage(BACKDROP_PATH);
+    }
+
+    /**
+     * Fill a component with its background color and the faded backdrop
+     *
+     * @param component The component being painted
+     * @param g Its graphics
+     * @param backdrop Backdrop image to draw
+     * @param background Color under the backdrop
+     * @param x Backdrop position
+     * @param y Backdrop position
+     * @param width Backdrop width after scaling
+     * @param height Backdrop height after scaling
+     * @param opacity Backdrop opacity
+     */
+    public static void paint(Component component, Graphics g, BufferedImage backdrop, Color background,
+                             int x, int y, int width, int height, float opacity) {
+        int layerWidth = component.getWidth();
+        int layerHeight = component.getHeight();
+        if (layerWidth <= 0 || layerHeight <= 0) {
+            return;
+        }
+
+        GraphicsConfiguration config = component.getGraphicsConfiguration();
+        LayerKey key = new LayerKey(backdrop, background, layerWidth, layerHeight, x, y, width, height, opacity, config);
+
+        Layer layer;
+        synchronized (layers) {
+            layer = layers.get(key);
+            if (layer == null) {
+                StartupTrace.Span span = StartupTrace.begin("image", "render backdrop layer");
+                try {
+                    layer = new Layer(renderLayer(key));
+                } finally {
+                    span.close();
+                }
+                layers.put(key, layer);
+            }
+            paintedLayers.put(component, layer.image);
+        }
+
+        if (!USE_VOLATILE || config == null || !layer.drawVolatile(g, config)) {
+            g.drawImage(layer.image, 0, 0, null);
+        }
+    }
+
+    /**
+     * Get the layer last painted into a component, so a child can draw the part behind it
+     *
+     * @param component A component painted with {@link #paint}
+     * @return The layer in the component's coordinates, or null if it has not been painted yet
+     */
+    public static BufferedImage getPaintedLayer(Component component) {
+        synchronized (layers) {
+            return paintedLayers.get(component);
+        }
+    }
+
+    /**
+     * Drop all pre-rendered layers
+     */
+    public static void clear() {
+        synchronized (layers) {
+            for (Layer layer : layers.values()) {
+                layer.flush();
+            }
+            layers.clear();
+            paintedLayers.clear();
+        }
+    }
+
+    private static BufferedImage renderLayer(LayerKey key) {
+        BufferedImage image = key.config != null
+                ? key.config.createCompatibleImage(key.layerWidth, key.layerHeight, Transparency.OPAQUE)
+                : new BufferedImage(key.layerWidth, key.layerHeight, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(key.background);
+        g2d.fillRect(0, 0, key.layerWidth, key.layerHeight);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, key.opacity));
+        g2d.drawImage(key.backdrop, key.x, key.y, key.width, key.height, null);
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * A rendered layer and, when enabled, its copy in video memory
+     */
+    private static class Layer {
+        final BufferedImage image;
+        VolatileImage volatileImage;
+
+        Layer(BufferedImage image) {
+            this.image = image;
+        }
+
+        /**
+         * Draw from video memory, restoring the contents if they were lost
+         *
+         * @return false if the volatile copy could not be used
+         */
+        boolean drawVolatile(Graphics g, GraphicsConfiguration config) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                if (volatileImage == null) {
+                    volatileImage = config.createCompatibleVolatileImage(image.getWidth(), image.getHeight());
+                    restore();
+                }
+
+                int status = volatileImage.validate(config);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    volatileImage.flush();
+                    volatileImage = null;
+                    continue;
+                } else if (status == VolatileImage.IMAGE_RESTORED) {
+                    restore();
+                }
+
+                g.drawImage(volatileImage, 0, 0, null);
+                if (!volatileImage.contentsLost()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void restore() {
+            Graphics2D g2d = volatileImage.createGraphics();
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+        }
+
+        void flush() {
+            image.flush();
+            if (volatileImage != null) {
+                volatileImage.flush();
+                volatileImage = null;
+            }
+        }
+    }
+
+    private static class LayerKey {
+        final BufferedImage backdrop;
+        final Color background;
+        final int layerWidth;
+        final int layerHeight;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+        final float opacity;
+        final GraphicsConfiguration config;
+
+        LayerKey(BufferedImage backdrop, Color background, int layerWidth, int layerHeight,
+                 int x, int y, int width, int height, float opacity, GraphicsConfiguration config) {
+            this.backdrop = backdrop;
+            this.background = background;
+            this.layerWidth = layerWidth;
+            this.layerHeight = layerHeight;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.opacity = opacity;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LayerKey)) {
+                return false;
+            }
+            LayerKey other = (LayerKey) o;
+            return backdrop == other.backdrop && background.equals(other.background)
+                    && layerWidth == other.layerWidth && layerHeight == other.layerHeight
+                    && x == other.x && y == other.y && width == other.width && height == other.height
+                    && opacity == other.opacity && Objects.equals(config, other.config);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(backdrop), background, layerWidth, layerHeight,
+                    x, y, width, height, opacity, config);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package util;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fonts shared by every window.
+ *
+ * Each font file is parsed and registered with the GraphicsEnvironment once per run,
+ * no matter how many windows, dialogs or notifications ask for it. Derived sizes and
+ * styles are cached as well, so components that derive fonts while painting reuse
+ * the same Font objects.
+ */
+public class FontRegistry {
+
+    public static final String FONTS_DIR = "lib/fonts";
+
+    // Inter weights used by the UI
+    public static final String BLACK = "Black";
+    public static final String BOLD = "Bold";
+    public static final String SEMI_BOLD = "SemiBold";
+    public static final String MEDIUM = "Medium";
+    public static final String REGULAR = "Regular";
+
+    // Derived fonts kept; sizes computed from the window size change while resizing
+    private static final int MAX_DERIVED_FONTS = 512;
+
+    // Keyed by canonical path
+    private static final Map<String, Font> loadedFonts = new HashMap<>();
+
+    private static final Map<DerivedKey, Font> derivedFonts =
+            new LinkedHashMap<DerivedKey, Font>(128, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<DerivedKey, Font> eldest) {
+                    return size() > MAX_DERIVED_FONTS;
+                }
+            };
+
+    private FontRegistry() {
+    }
+
+    /**
+     * Get a TrueType font, loading and registering it on first use
+     *
+     * @param file Font file
+     * @return The font at size 1, as returned by Font.createFont
+     * @throws FontFormatException If the file is not a valid TrueType font
+     * @throws IOException If the file cannot be read
+     */
+    public static Font getFont(File file) throws FontFormatException, IOException {
+        String key = file.getCanonicalPath();
+        synchronized (loadedFonts) {
+            Font font = loadedFonts.get(key);
+            if (font == null) {
+                StartupTrace.Span span = StartupTrace.begin("font", file.getName());
+                try {
+                    InputStream packed = ResourcePack.open(file);
+                    font = packed != null ? Font.createFont(Font.TRUETYPE_FONT, packed)
+                            : Font.createFont(Font.TRUETYPE_FONT, file);
+                    if (!GraphicsEnvironment.isHeadless()) {
+                        GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+                    }
+                } finally {
+                    span.close();
+                }
+                loadedFonts.put(key, font);
+            }
+            return font;
+        }
+    }
+
+    /**
+     * Get an Inter weight from lib/fonts
+     *
+     * @param weight One of the weight constants, e.g. {@link #SEMI_BOLD}
+     * @return The font at size 1, or null if it cannot be loaded
+     */
+    public static Font getInter(String weight) {
+        File file = new File(FONTS_DIR, "Inter_18pt-" + weight + ".ttf");
+        if (!ResourcePack.contains(file) && !file.exists()) {
+            return null;
+        }
+        try {
+            return getFont(file);
+        } catch (FontFormatException | IOException e) {
+            System.err.println("Error loading font " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cached equivalent of {@code font.deriveFont(size)}
+     */
+    public static Font derive(Font font, float size) {
+        return derive(font, font.getStyle(), size);
+    }
+
+    /**
+     * Cached equivalent of {@code font.deriveFont(style)}
+     */
+    public static Font derive(Font font, int style) {
+        return derive(font, style, font.getSize2D());
+    }
+
+    /**
+     * Cached equivalent of {@code font.deriveFont(style, size)}
+     */
+    public static Font derive(Font font, int style, float size) {
+        DerivedKey key = new DerivedKey(font, style, size);
+        synchronized (derivedFonts) {
+            Font derived = derivedFonts.get(key);
+            if (derived == null) {
+                derived = font.deriveFont(style, size);
+                derivedFonts.put(key, derived);
+            }
+            return derived;
+        }
+    }
+
+    private static class DerivedKey {
+        final Font base;
+        final int style;
+        final float size;
+
+        DerivedKey(Font base, int style, float size) {
+            this.base = base;
+            this.style = style;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof DerivedKey)) {
+                return false;
+            }
+            DerivedKey other = (DerivedKey) o;
+            return base.equals(other.base) && style == other.style && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(base, style, size);
+        }
+    }
+}
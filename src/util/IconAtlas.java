@@ -0,0 +1,118 @@
+package util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * UI icons packed into a single image, decoded once and handed out as sub-images.
+ *
+ * The atlas and its index are generated by IconAtlasPacker. Icons are named by their
+ * path under resources/images, e.g. "Candidate Search/x.png". An icon missing from
+ * the atlas, or every icon if the atlas itself is missing, is loaded from its own
+ * file through the shared ImageCache instead.
+ */
+public class IconAtlas {
+
+    static final String IMAGES_DIR = "resources/images";
+    static final String ATLAS_IMAGE = IMAGES_DIR + "/icons_atlas.png";
+    static final String ATLAS_INDEX = IMAGES_DIR + "/icons_atlas.txt";
+
+    // Icons packed into the atlas, relative to resources/images
+    static final String[] ICONS = {
+        "Candidate Search/HeaderLogo.png",
+        "Candidate Search/arrow_down.png",
+        "Candidate Search/arrow_down_grey.png",
+        "Candidate Search/checkmark.png",
+        "Candidate Search/refresh.png",
+        "Candidate Search/search.png",
+        "Candidate Search/x.png",
+        "Buttons Icon/search_masked.png",
+        "Buttons Icon/compare_masked.png",
+        "Buttons Icon/overview_masked.png",
+        "Buttons Icon/quiz_masked.png",
+        "progress_hea.png"
+    };
+
+    private static Map<String, BufferedImage> icons;
+
+    private IconAtlas() {
+    }
+
+    /**
+     * Get an icon by its path under resources/images
+     *
+     * @param name Icon path such as "Candidate Search/x.png"
+     * @return The icon, or null if it is neither in the atlas nor on disk
+     */
+    public static BufferedImage getIcon(String name) {
+        BufferedImage icon = getIcons().get(name);
+        if (icon != null) {
+            return icon;
+        }
+        return ImageCache.getInstance().getImage(IMAGES_DIR + "/" + name);
+    }
+
+    private static synchronized Map<String, BufferedImage> getIcons() {
+        if (icons == null) {
+            icons = loadAtlas();
+        }
+        return icons;
+    }
+
+    /**
+     * Decode the atlas and slice it according to the index
+     */
+    private static Map<String, BufferedImage> loadAtlas() {
+        Map<String, BufferedImage> result = new HashMap<>();
+        File imageFile = new File(ATLAS_IMAGE);
+        File indexFile = new File(ATLAS_INDEX);
+        boolean packed = ResourcePack.contains(imageFile) && ResourcePack.contains(indexFile);
+        if (!packed && (!imageFile.exists() || !indexFile.exists())) {
+            System.out.println("Icon atlas not found, loading icons individually");
+            return result;
+        }
+
+        StartupTrace.Span span = StartupTrace.begin("image", "icon atlas");
+        try (BufferedReader reader = packed
+                     ? new BufferedReader(new InputStreamReader(ResourcePack.open(indexFile), StandardCharsets.UTF_8))
+                     : new BufferedReader(new FileReader(indexFile))) {
+            BufferedImage atlas = packed ? ImageIO.read(ResourcePack.open(imageFile)) : ImageIO.read(imageFile);
+            if (atlas == null) {
+                return result;
+            }
+
+            // Each line: name, x, y, width, height separated by tabs
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\t");
+                if (parts.length != 5) {
+                    continue;
+                }
+                int x = Integer.parseInt(parts[1]);
+                int y = Integer.parseInt(parts[2]);
+                int width = Integer.parseInt(parts[3]);
+                int height = Integer.parseInt(parts[4]);
+                result.put(parts[0], atlas.getSubimage(x, y, width, height));
+            }
+            System.out.println("Loaded " + result.size() + " icons from atlas");
+        } catch (IOException | NumberFormatException | RasterFormatException e) {
+            System.err.println("Error loading icon atlas: " + e.getMessage());
+            result.clear();
+        } finally {
+            span.close();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package util;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * Build step that packs the UI icons listed in IconAtlas into one image plus an index.
+ * Re-run it whenever one of those icons changes.
+ *
+ * Usage: java -cp bin util.IconAtlasPacker
+ */
+public class IconAtlasPacker {
+
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int PADDING = 1;
+
+    private static class Entry {
+        final String name;
+        final BufferedImage image;
+        int x;
+        int y;
+
+        Entry(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            List<Entry> entries = new ArrayList<>();
+            for (String name : IconAtlas.ICONS) {
+                BufferedImage image = ImageIO.read(new File(IconAtlas.IMAGES_DIR, name));
+                if (image == null) {
+                    throw new IOException("Unsupported image format: " + name);
+                }
+                entries.add(new Entry(name, image));
+            }
+
+            int height = pack(entries);
+            writeAtlas(entries, height);
+            System.out.println("Packed " + entries.size() + " icons into " + ATLAS_WIDTH + "x" + height + " atlas");
+        } catch (IOException e) {
+            System.err.println("Error packing icon atlas: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Place icons on shelves, tallest first
+     *
+     * @return Height of the packed atlas
+     */
+    private static int pack(List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort((a, b) -> Integer.compare(b.image.getHeight(), a.image.getHeight()));
+
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Entry entry : sorted) {
+            int width = entry.image.getWidth() + PADDING;
+            if (x > 0 && x + width > ATLAS_WIDTH) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            entry.x = x;
+            entry.y = y;
+            x += width;
+            shelfHeight = Math.max(shelfHeight, entry.image.getHeight() + PADDING);
+        }
+        return y + shelfHeight;
+    }
+
+    private static void writeAtlas(List<Entry> entries, int height) throws IOException {
+        BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = atlas.createGraphics();
+        // Copy pixels as-is so translucent edges are not re-blended
+        g2d.setComposite(AlphaComposite.Src);
+        for (Entry entry : entries) {
+            g2d.drawImage(entry.image, entry.x, entry.y, null);
+        }
+        g2d.dispose();
+        ImageIO.write(atlas, "png", new File(IconAtlas.ATLAS_IMAGE));
+
+        try (PrintWriter writer = new PrintWriter(IconAtlas.ATLAS_INDEX, "UTF-8")) {
+            writer.println("# Generated by util.IconAtlasPacker: name, x, y, width, height");
+            for (Entry entry : entries) {
+                writer.println(entry.name + "\t" + entry.x + "\t" + entry.y + "\t"
+                        + entry.image.getWidth() + "\t" + entry.image.getHeight());
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.imageio.ImageIO;
+import javax.swing.SwingUtilities;
+
+/**
+ * Process-wide cache of decoded images, shared by every screen.
+ *
+ * Recently used images are held strongly up to a byte budget and evicted in LRU order.
+ * Evicted images are kept behind soft references, so they can still be reused until
+ * the JVM runs low on memory. Concurrent requests for the same file decode it only once.
+ *
+ * The budget defaults to 64 MB and can be changed with -Dgabay.imageCache.mb=N.
+ */
+public class ImageCache {
+
+    private static final String DEFAULT_PROFILE_IMAGE = "resources/images/defaultprofpic.png";
+    private static final long DEFAULT_BUDGET_BYTES = Long.getLong("gabay.imageCache.mb", 64L) * 1024 * 1024;
+
+    private static final ImageCache instance = new ImageCache(DEFAULT_BUDGET_BYTES);
+
+    private final long budgetBytes;
+    private long sizeBytes = 0;
+
+    // Strongly held images in access order, guarded by this
+    private final LinkedHashMap<String, BufferedImage> strongCache = new LinkedHashMap<>(64, 0.75f, true);
+
+    // Images evicted from the strong cache, reclaimable by the GC
+    private final Map<String, KeyedSoftReference> softCache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<BufferedImage> clearedReferences = new ReferenceQueue<>();
+
+    // Decodes in progress, so each file is read by one thread only
+    private final Map<String, FutureTask<BufferedImage>> pendingLoads = new ConcurrentHashMap<>();
+
+    private volatile BufferedImage defaultProfileImage;
+
+    // Small pool of low-priority daemon threads for background decodes
+    private static final ExecutorService decodeExecutor = createDecodeExecutor();
+
+    private static class KeyedSoftReference extends SoftReference<BufferedImage> {
+        final String key;
+
+        KeyedSoftReference(String key, BufferedImage image, ReferenceQueue<BufferedImage> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    public ImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Get the shared cache
+     */
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get an image, decoding it on first use
+     *
+     * @param path Path to the image file
+     * @return The decoded image, or null if the file is missing or unreadable
+     */
+    public BufferedImage getImage(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        return getImage(new File(path.trim()));
+    }
+
+    /**
+     * Get an image, decoding it on first use
+     *
+     * @param file The image file
+     * @return The decoded image, or null if the file is missing or unreadable
+     */
+    public BufferedImage getImage(File file) {
+        if (file == null || !ResourcePack.contains(file) && !file.exists() && lookup(keyFor(file)) == null) {
+            return null;
+        }
+        return getImage(keyFor(file), () -> decode(file));
+    }
+
+    /**
+     * Get an image derived by a custom loader, such as a thumbnail, caching it under the given key
+     *
+     * @param key Cache key, unique to the derived image
+     * @param loader Produces the image on a cache miss; may return null
+     * @return The image, or null if the loader failed or returned null
+     */
+    public BufferedImage getImage(String key, Callable<BufferedImage> loader) {
+        BufferedImage image = lookup(key);
+        if (image != null) {
+            return image;
+        }
+
+        // Load outside the lock; other threads asking for the same key wait for this load
+        FutureTask<BufferedImage> task = new FutureTask<>(() -> {
+            BufferedImage loaded = loader.call();
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            return loaded;
+        });
+        FutureTask<BufferedImage> existing = pendingLoads.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                pendingLoads.remove(key, task);
+            }
+            existing = task;
+        }
+
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("Error loading image " + key + ": " + e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get an image only if it is already decoded, without touching the disk
+     */
+    public BufferedImage getCachedImage(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        return lookup(keyFor(new File(path.trim())));
+    }
+
+    /**
+     * Get an image cached under a custom key only if it is already loaded
+     */
+    public BufferedImage getCachedImageByKey(String key) {
+        return lookup(key);
+    }
+
+    /**
+     * Cache an image that was produced elsewhere under a custom key
+     */
+    public void putImage(String key, BufferedImage image) {
+        if (image != null) {
+            put(key, image);
+        }
+    }
+
+    /**
+     * Decode an image on the background pool and hand it to the callback on the EDT.
+     * The callback receives null if the file is missing or unreadable.
+     *
+     * @return A future that can be cancelled if the result is no longer needed
+     */
+    public Future<?> getImageAsync(String path, Consumer<BufferedImage> onLoaded) {
+        return loadAsync(() -> getImage(path), onLoaded);
+    }
+
+    /**
+     * Run an image load on the background pool and hand the result to the callback on the EDT
+     *
+     * @return A future that can be cancelled if the result is no longer needed
+     */
+    public Future<?> loadAsync(Callable<BufferedImage> loader, Consumer<BufferedImage> onLoaded) {
+        FutureTask<BufferedImage> task = new FutureTask<BufferedImage>(loader) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    BufferedImage image = get();
+                    SwingUtilities.invokeLater(() -> onLoaded.accept(image));
+                } catch (InterruptedException | ExecutionException e) {
+                    SwingUtilities.invokeLater(() -> onLoaded.accept(null));
+                }
+            }
+        };
+        decodeExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Get an image, falling back to the default profile image
+     */
+    public BufferedImage getImageOrDefault(String path) {
+        BufferedImage image = getImage(path);
+        return image != null ? image : getDefaultProfileImage();
+    }
+
+    /**
+     * Get the default profile image, or a blank image if it cannot be loaded
+     */
+    public BufferedImage getDefaultProfileImage() {
+        BufferedImage image = defaultProfileImage;
+        if (image == null) {
+            image = getImage(DEFAULT_PROFILE_IMAGE);
+            if (image == null) {
+                System.err.println("Default profile image not found: " + DEFAULT_PROFILE_IMAGE);
+                image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+            }
+            // Pinned so it is never evicted
+            defaultProfileImage = image;
+        }
+        return image;
+    }
+
+    /**
+     * Drop a cached image, e.g. after the file on disk was replaced
+     */
+    public void invalidate(String path) {
+        if (path == null) {
+            return;
+        }
+        String key = keyFor(new File(path.trim()));
+        synchronized (this) {
+            BufferedImage removed = strongCache.remove(key);
+            if (removed != null) {
+                sizeBytes -= sizeOf(removed);
+            }
+        }
+        softCache.remove(key);
+    }
+
+    /**
+     * Drop every cached image
+     */
+    public void clear() {
+        synchronized (this) {
+            strongCache.clear();
+            sizeBytes = 0;
+        }
+        softCache.clear();
+    }
+
+    /**
+     * Bytes currently held by strongly cached images
+     */
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    private BufferedImage lookup(String key) {
+        synchronized (this) {
+            BufferedImage image = strongCache.get(key);
+            if (image != null) {
+                return image;
+            }
+        }
+
+        // Promote a softly held image back into the strong cache
+        KeyedSoftReference ref = softCache.get(key);
+        BufferedImage image = ref != null ? ref.get() : null;
+        if (image != null) {
+            softCache.remove(key, ref);
+            put(key, image);
+        }
+        return image;
+    }
+
+    private void put(String key, BufferedImage image) {
+        expungeClearedReferences();
+
+        synchronized (this) {
+            BufferedImage previous = strongCache.put(key, image);
+            if (previous != null) {
+                sizeBytes -= sizeOf(previous);
+            }
+            sizeBytes += sizeOf(image);
+
+            // Evict least recently used images until within budget, keeping the newest one
+            Iterator<Map.Entry<String, BufferedImage>> it = strongCache.entrySet().iterator();
+            while (sizeBytes > budgetBytes && strongCache.size() > 1 && it.hasNext()) {
+                Map.Entry<String, BufferedImage> eldest = it.next();
+                it.remove();
+                sizeBytes -= sizeOf(eldest.getValue());
+                softCache.put(eldest.getKey(), new KeyedSoftReference(eldest.getKey(), eldest.getValue(), clearedReferences));
+            }
+        }
+    }
+
+    private void expungeClearedReferences() {
+        Object ref;
+        while ((ref = clearedReferences.poll()) != null) {
+            KeyedSoftReference keyed = (KeyedSoftReference) ref;
+            softCache.remove(keyed.key, keyed);
+        }
+    }
+
+    private static ExecutorService createDecodeExecutor() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "image-decoder");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static BufferedImage decode(File file) throws IOException {
+        BufferedImage image;
+        StartupTrace.Span span = StartupTrace.begin("image", file.getName());
+        try {
+            InputStream packed = ResourcePack.open(file);
+            image = packed != null ? ImageIO.read(packed) : ImageIO.read(file);
+        } finally {
+            span.close();
+        }
+        if (image == null) {
+            throw new IOException("Unsupported image format");
+        }
+        return image;
+    }
+
+    static String keyFor(File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+}
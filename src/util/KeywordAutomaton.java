@@ -0,0 +1,123 @@
+package util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton for finding many keywords in a text with a single pass.
+ * Keywords are matched case-insensitively and each one carries an integer value.
+ */
+public class KeywordAutomaton {
+
+    /**
+     * Receives every keyword occurrence found in a text
+     */
+    public interface MatchListener {
+        void onMatch(int value, int keywordLength, int endIndex);
+    }
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failLinks = new ArrayList<>();
+    // Values and keyword lengths of the keywords ending at each state
+    private final List<List<int[]>> outputs = new ArrayList<>();
+    private boolean built = false;
+
+    public KeywordAutomaton() {
+        addState();
+    }
+
+    private int addState() {
+        transitions.add(new HashMap<>());
+        failLinks.add(0);
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * Add a keyword to the automaton. Must be called before {@link #build()}.
+     */
+    public void addKeyword(String keyword, int value) {
+        if (built) {
+            throw new IllegalStateException("Cannot add keywords after the automaton is built");
+        }
+        if (keyword == null || keyword.isEmpty()) {
+            return;
+        }
+
+        int state = 0;
+        String lower = keyword.toLowerCase();
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = addState();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(new int[] {value, lower.length()});
+    }
+
+    /**
+     * Compute failure links breadth-first so the automaton can be searched
+     */
+    public void build() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failLinks.set(child, 0);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+                char c = entry.getKey();
+                int child = entry.getValue();
+
+                // Follow failure links until a state with a transition on c is found
+                int fail = failLinks.get(state);
+                while (fail != 0 && !transitions.get(fail).containsKey(c)) {
+                    fail = failLinks.get(fail);
+                }
+                Integer target = transitions.get(fail).get(c);
+                failLinks.set(child, target != null && target != child ? target : 0);
+
+                // Inherit the outputs reachable through the failure link
+                outputs.get(child).addAll(outputs.get(failLinks.get(child)));
+                queue.add(child);
+            }
+        }
+
+        built = true;
+    }
+
+    /**
+     * Scan the text once and report every keyword occurrence
+     */
+    public void search(String text, MatchListener listener) {
+        if (!built) {
+            throw new IllegalStateException("Automaton must be built before searching");
+        }
+        if (text == null) {
+            return;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failLinks.get(state);
+            }
+            Integer next = transitions.get(state).get(c);
+            state = next != null ? next : 0;
+
+            for (int[] output : outputs.get(state)) {
+                listener.onMatch(output[0], output[1], i);
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.swing.SwingUtilities;
+
+/**
+ * Imports candidate photos chosen in the admin panel.
+ *
+ * Camera photos are decoded with source subsampling, turned upright according to
+ * their EXIF orientation, scaled to fit a standard size and saved as a compressed
+ * JPEG under resources/images/candidates. The avatar thumbnails are generated at the
+ * same time, so the browse screens only ever load small, pre-sized images.
+ * All of this runs on a background thread.
+ */
+public class PhotoImporter {
+
+    public static final String CANDIDATE_IMAGES_DIR = "resources/images/candidates";
+
+    // Longest side of a stored photo
+    private static final int STANDARD_SIZE = 800;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final ExecutorService importExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "photo-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private PhotoImporter() {
+    }
+
+    /**
+     * Import a photo in the background and hand the stored path to the callback on the EDT.
+     * The callback receives null if the photo could not be read or saved.
+     *
+     * @param source The photo chosen by the user
+     * @param candidateName Used to name the stored file
+     * @return A future that can be cancelled if the result is no longer needed
+     */
+    public static Future<?> importPhotoAsync(File source, String candidateName, Consumer<String> onImported) {
+        return importExecutor.submit(() -> {
+            String path = null;
+            try {
+                path = importPhoto(source, candidateName);
+            } catch (IOException e) {
+                System.err.println("Error importing photo " + source + ": " + e.getMessage());
+            }
+            final String result = path;
+            SwingUtilities.invokeLater(() -> onImported.accept(result));
+        });
+    }
+
+    /**
+     * Import a photo on the calling thread
+     *
+     * @return Path of the stored photo
+     */
+    public static String importPhoto(File source, String candidateName) throws IOException {
+        BufferedImage photo = decodeForStandardSize(source);
+        photo = applyOrientation(photo, readExifOrientation(source));
+
+        // Fit within the standard size, never enlarging small photos
+        double scale = Math.min(1.0, (double) STANDARD_SIZE / Math.max(photo.getWidth(), photo.getHeight()));
+        int width = Math.max(1, (int) Math.round(photo.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(photo.getHeight() * scale));
+        BufferedImage scaled = ScaledImageCache.scale(photo, width, height);
+
+        // JPEG has no alpha, so flatten onto white
+        BufferedImage rgb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, width, height);
+        g2d.drawImage(scaled, 0, 0, null);
+        g2d.dispose();
+
+        File dir = new File(CANDIDATE_IMAGES_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        // A new name per import, so cached images of an older photo are never reused
+        File target = new File(dir, toFileName(candidateName) + "-" + System.currentTimeMillis() + ".jpg");
+        writeJpeg(rgb, target);
+
+        String path = CANDIDATE_IMAGES_DIR + "/" + target.getName();
+        ThumbnailCache.getInstance().getThumbnail(path, ThumbnailCache.LIST_AVATAR_SIZE);
+        ThumbnailCache.getInstance().getThumbnail(path, ThumbnailCache.CARD_AVATAR_SIZE);
+
+        System.out.println("Imported photo " + source.getName() + " as " + path + " (" + width + "x" + height + ")");
+        return path;
+    }
+
+    /**
+     * Decode with subsampling, keeping the longest side at or above the standard size
+     */
+    private static BufferedImage decodeForStandardSize(File source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                throw new IOException("Cannot open " + source);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int factor = Math.max(1, longSide / STANDARD_SIZE);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Rotate or flip the image so EXIF orientation 1 (upright) is restored
+     */
+    private static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swapSides = orientation >= 5;
+
+        // Maps source pixel (x, y) to its upright position
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: transform = new AffineTransform(-1, 0, 0, 1, w, 0); break;   // Mirrored
+            case 3: transform = new AffineTransform(-1, 0, 0, -1, w, h); break;  // Upside down
+            case 4: transform = new AffineTransform(1, 0, 0, -1, 0, h); break;   // Flipped vertically
+            case 5: transform = new AffineTransform(0, 1, 1, 0, 0, 0); break;    // Transposed
+            case 6: transform = new AffineTransform(0, 1, -1, 0, h, 0); break;   // Rotated 90 degrees counterclockwise
+            case 7: transform = new AffineTransform(0, -1, -1, 0, h, w); break;  // Transverse
+            case 8: transform = new AffineTransform(0, -1, 1, 0, 0, w); break;   // Rotated 90 degrees clockwise
+            default: return image;
+        }
+
+        BufferedImage result = new BufferedImage(swapSides ? h : w, swapSides ? w : h, BufferedImage.TYPE_INT_ARGB);
+        new AffineTransformOp(transform, AffineTransformOp.TYPE_NEAREST_NEIGHBOR).filter(toArgb(image), result);
+        return result;
+    }
+
+    private static BufferedImage toArgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            return image;
+        }
+        BufferedImage argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = argb.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return argb;
+    }
+
+    /**
+     * Read the EXIF orientation tag from a JPEG
+     *
+     * @return The orientation (1-8), or 1 if the file has none
+     */
+    static int readExifOrientation(File file) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1; // Not a JPEG
+            }
+
+            while (true) {
+                int marker = in.readUnsignedShort();
+                int length = in.readUnsignedShort() - 2;
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    return parseExifOrientation(segment);
+                }
+                // Orientation lives in APP1, which comes before the image data
+                if (marker == 0xFFDA || (marker & 0xFF00) != 0xFF00) {
+                    return 1;
+                }
+                in.skipBytes(length);
+            }
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static int parseExifOrientation(byte[] segment) {
+        // "Exif\0\0" followed by a TIFF header
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 1;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I';
+        int ifd = tiff + readInt(segment, tiff + 4, littleEndian);
+        if (ifd + 2 > segment.length) {
+            return 1;
+        }
+
+        int entries = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                break;
+            }
+            if (readShort(segment, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(segment, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return littleEndian ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, offset + (littleEndian ? 2 : 0), littleEndian);
+        int low = readShort(data, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    private static void writeJpeg(BufferedImage image, File target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String toFileName(String candidateName) {
+        String name = candidateName == null ? "" : candidateName.trim().toLowerCase().replaceAll("[^a-z0-9]+", "-");
+        name = name.replaceAll("^-+|-+$", "");
+        return name.isEmpty() ? "candidate" : name;
+    }
+}
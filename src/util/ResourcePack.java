@@ -0,0 +1,261 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional single-file bundle of the application's data, images and fonts.
+ *
+ * ResourcePackPacker gathers resources/ and lib/fonts/ into gabay-resources.pack: an
+ * index of paths followed by the file contents. At runtime the pack is memory-mapped
+ * once and each asset is a slice of the mapping, found with one hash lookup instead of
+ * exists() checks and a file open per asset. Images and fonts are read from the pack
+ * first; files the application edits (resources/data) are read from disk when they
+ * exist and from the pack otherwise. Without a pack everything is read from disk as
+ * before.
+ *
+ * The pack is looked up at -Dgabay.resourcePack=PATH, next to the compiled classes
+ * (or jar), and in the working directory, in that order. Paths inside the pack are
+ * relative to the directory the pack is in, so absolute paths under that directory
+ * resolve no matter where the application was started from.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * int magic, int version, int count
+ * count x { short pathLength, byte[] path (UTF-8, '/' separated), long offset, int length }
+ * file contents
+ * </pre>
+ */
+public class ResourcePack {
+
+    public static final String PACK_NAME = "gabay-resources.pack";
+
+    // Directories packed by ResourcePackPacker, relative to the application directory
+    static final String[] PACKED_DIRS = {"resources", "lib/fonts"};
+
+    static final int MAGIC = 0x47425250; // "GBRP"
+    static final int VERSION = 1;
+
+    private final File baseDir;
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private ResourcePack(File baseDir, ByteBuffer buffer, Map<String, Entry> entries) {
+        this.baseDir = baseDir;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    // Opened on first use
+    private static class Holder {
+        static final ResourcePack pack = openDefault();
+    }
+
+    /**
+     * Check whether a pack was found and mapped
+     */
+    public static boolean isAvailable() {
+        return Holder.pack != null;
+    }
+
+    /**
+     * Check whether the pack holds a file
+     */
+    public static boolean contains(File file) {
+        return get(file) != null;
+    }
+
+    /**
+     * Get the packed contents of a file without copying them
+     *
+     * @param file The file, relative to the application directory or absolute
+     * @return A read-only buffer over the contents, or null if the file is not packed
+     */
+    public static ByteBuffer get(File file) {
+        ResourcePack pack = Holder.pack;
+        if (pack == null || file == null) {
+            return null;
+        }
+        Entry entry = pack.entries.get(pack.keyFor(file));
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer slice = pack.buffer.duplicate();
+        slice.position(entry.offset);
+        slice.limit(entry.offset + entry.length);
+        return slice.slice();
+    }
+
+    /**
+     * Open a packed file as a stream
+     *
+     * @return A stream over the packed contents, or null if the file is not packed
+     */
+    public static InputStream open(File file) {
+        ByteBuffer contents = get(file);
+        return contents != null ? new BufferInputStream(contents) : null;
+    }
+
+    /**
+     * Open a text file the application may edit: the copy on disk if there is one,
+     * otherwise the packed copy. Decoded with the default charset, like FileReader.
+     *
+     * @throws FileNotFoundException If the file is neither on disk nor packed
+     */
+    public static BufferedReader openReader(File file) throws IOException {
+        if (file.exists()) {
+            return new BufferedReader(new FileReader(file));
+        }
+        InputStream packed = open(file);
+        if (packed == null) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        return new BufferedReader(new InputStreamReader(packed, Charset.defaultCharset()));
+    }
+
+    /**
+     * Path of a file inside the pack: relative to the pack's directory, '/' separated
+     */
+    private String keyFor(File file) {
+        Path path = file.toPath();
+        if (path.isAbsolute()) {
+            Path base = baseDir.toPath();
+            if (!path.startsWith(base)) {
+                return null;
+            }
+            path = base.relativize(path);
+        }
+        return path.normalize().toString().replace(File.separatorChar, '/');
+    }
+
+    private static ResourcePack openDefault() {
+        File file = locate();
+        if (file == null) {
+            return null;
+        }
+        StartupTrace.Span span = StartupTrace.begin("image", "map resource pack");
+        try {
+            ResourcePack pack = map(file);
+            System.out.println("Mapped resource pack with " + pack.entries.size() + " files from " + file.getPath());
+            return pack;
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable resource pack: " + e.getMessage());
+            return null;
+        } finally {
+            span.close();
+        }
+    }
+
+    private static File locate() {
+        String configured = System.getProperty("gabay.resourcePack");
+        if (configured != null) {
+            File file = new File(configured);
+            return file.exists() ? file : null;
+        }
+
+        // Next to the class output directory or jar, e.g. bin/../gabay-resources.pack
+        try {
+            File classes = new File(ResourcePack.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            File file = new File(classes.getParentFile(), PACK_NAME);
+            if (file.exists()) {
+                return file;
+            }
+        } catch (Exception e) {
+            // No code source, e.g. when run from an unusual class loader
+        }
+
+        File file = new File(PACK_NAME);
+        return file.exists() ? file : null;
+    }
+
+    private static ResourcePack map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a resource pack: " + file);
+            }
+            int count = buffer.getInt();
+            Map<String, Entry> entries = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] path = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(path);
+                long offset = buffer.getLong();
+                int length = buffer.getInt();
+                if (offset + length > buffer.capacity()) {
+                    throw new IOException("Truncated resource pack: " + file);
+                }
+                entries.put(new String(path, StandardCharsets.UTF_8), new Entry((int) offset, length));
+            }
+            return new ResourcePack(file.getAbsoluteFile().getParentFile(), buffer.asReadOnlyBuffer(), entries);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt resource pack: " + file, e);
+        }
+    }
+
+    private static class Entry {
+        final int offset;
+        final int length;
+
+        Entry(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Stream over a buffer, reading straight from the mapping
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build step that packs resources/ and lib/fonts/ into one indexed file for ResourcePack.
+ * Run it from the application directory after changing any packed file.
+ *
+ * Usage: java -cp bin util.ResourcePackPacker [output]
+ */
+public class ResourcePackPacker {
+
+    public static void main(String[] args) {
+        File output = new File(args.length > 0 ? args[0] : ResourcePack.PACK_NAME);
+        try {
+            List<String> paths = new ArrayList<>();
+            for (String dir : ResourcePack.PACKED_DIRS) {
+                collect(new File(dir), dir, paths);
+            }
+            Collections.sort(paths);
+
+            long size = write(paths, output);
+            System.out.println("Packed " + paths.size() + " files (" + (size / 1024) + " KB) into " + output.getPath());
+        } catch (IOException e) {
+            System.err.println("Error packing resources: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void collect(File dir, String prefix, List<String> paths) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String path = prefix + "/" + file.getName();
+            if (file.isDirectory()) {
+                collect(file, path, paths);
+            } else if (!file.getName().endsWith(".tmp") && !file.isHidden()) {
+                paths.add(path);
+            }
+        }
+    }
+
+    /**
+     * Write the index and contents, replacing the output only once complete
+     *
+     * @return Size of the pack in bytes
+     */
+    private static long write(List<String> paths, File output) throws IOException {
+        // Contents start after the index
+        long offset = 12;
+        for (String path : paths) {
+            offset += 2 + path.getBytes(StandardCharsets.UTF_8).length + 12;
+        }
+
+        File temp = new File(output.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(ResourcePack.MAGIC);
+            out.writeInt(ResourcePack.VERSION);
+            out.writeInt(paths.size());
+            for (String path : paths) {
+                byte[] name = path.getBytes(StandardCharsets.UTF_8);
+                long length = new File(path).length();
+                if (offset + length > Integer.MAX_VALUE) {
+                    throw new IOException("Resources exceed 2 GB");
+                }
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                offset += length;
+            }
+            for (String path : paths) {
+                Files.copy(new File(path).toPath(), out);
+            }
+        }
+        Files.move(temp.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return output.length();
+    }
+}
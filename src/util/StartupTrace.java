@@ -0,0 +1,213 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.SwingUtilities;
+
+/**
+ * Records where startup time goes, from the JVM start to the first paint of the landing page.
+ *
+ * Code that does startup work (static initializers, font and image loading, data parsing,
+ * frame construction) opens a named span around it. Once the landing page has painted
+ * and the EDT is idle again, the spans are written as a Chrome trace JSON file that can
+ * be opened in chrome://tracing or https://ui.perfetto.dev. The number of loaded classes
+ * is recorded as a counter alongside the spans.
+ *
+ * Enabled with -Dgabay.startupTrace=PATH (or =true for startup-trace.json in the working
+ * directory). When disabled, spans are a shared no-op object and cost a field check.
+ */
+public class StartupTrace {
+
+    private static final String OUTPUT = System.getProperty("gabay.startupTrace");
+    public static final boolean ENABLED = OUTPUT != null && !OUTPUT.equals("false");
+
+    private static final String DEFAULT_OUTPUT = "startup-trace.json";
+
+    private static final Span NO_OP = new Span(null, null);
+
+    // Timestamps are microseconds since the JVM started
+    private static final long originNanos = System.nanoTime();
+    private static final long originMicros = ENABLED ? microsSinceJvmStart() : 0;
+
+    // Trace events as JSON objects, guarded by the list
+    private static final List<String> events = new ArrayList<>();
+    private static final Map<Long, String> threadNames = new HashMap<>();
+
+    private static volatile boolean finished = !ENABLED;
+    private static boolean painted = false;
+
+    static {
+        if (ENABLED) {
+            // Everything before this class was initialized: JVM boot, class loading, main's callers
+            addEvent("{\"name\":\"jvm start to first trace\",\"cat\":\"jvm\",\"ph\":\"X\",\"ts\":0,\"dur\":"
+                    + originMicros + ",\"pid\":1,\"tid\":" + threadId() + "}");
+        }
+    }
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Start a span, to be closed in a finally block
+     *
+     * @param category Kind of work, e.g. "font", "image", "data", "frame", "clinit"
+     * @param name What is being done, e.g. the file name
+     */
+    public static Span begin(String category, String name) {
+        if (finished) {
+            return NO_OP;
+        }
+        recordClassCount();
+        return new Span(category, name);
+    }
+
+    /**
+     * Mark a point in time
+     */
+    public static void instant(String name) {
+        if (finished) {
+            return;
+        }
+        addEvent("{\"name\":\"" + escape(name) + "\",\"cat\":\"mark\",\"ph\":\"i\",\"s\":\"g\",\"ts\":"
+                + now() + ",\"pid\":1,\"tid\":" + threadId() + "}");
+    }
+
+    /**
+     * Called from a window's paint code. The first call marks the first paint and,
+     * once the EDT has handled the events queued behind it, writes the trace.
+     *
+     * @param window Name of the window being painted
+     */
+    public static void firstPaint(String window) {
+        if (finished) {
+            return;
+        }
+        synchronized (events) {
+            if (painted) {
+                return;
+            }
+            painted = true;
+        }
+        instant("first paint " + window);
+        SwingUtilities.invokeLater(() -> {
+            instant("interactive");
+            finish();
+        });
+    }
+
+    /**
+     * Stop recording and write the trace file in the background
+     */
+    public static void finish() {
+        if (finished) {
+            return;
+        }
+        recordClassCount();
+        finished = true;
+
+        List<String> snapshot;
+        synchronized (events) {
+            snapshot = new ArrayList<>(events);
+            for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+                snapshot.add("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey()
+                        + ",\"args\":{\"name\":\"" + escape(thread.getValue()) + "\"}}");
+            }
+        }
+
+        File file = new File(OUTPUT.equals("true") ? DEFAULT_OUTPUT : OUTPUT);
+        Thread writer = new Thread(() -> write(file, snapshot), "startup-trace");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private static void write(File file, List<String> snapshot) {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            out.println("{\"traceEvents\":[");
+            for (int i = 0; i < snapshot.size(); i++) {
+                out.print(snapshot.get(i));
+                out.println(i < snapshot.size() - 1 ? "," : "");
+            }
+            out.println("],\"displayTimeUnit\":\"ms\"}");
+            System.out.println("Wrote startup trace with " + snapshot.size() + " events to " + file.getAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error writing startup trace: " + e.getMessage());
+        }
+    }
+
+    private static void recordClassCount() {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        addEvent("{\"name\":\"classes\",\"ph\":\"C\",\"ts\":" + now() + ",\"pid\":1,\"args\":{\"loaded\":"
+                + classLoading.getTotalLoadedClassCount() + "}}");
+    }
+
+    private static void addEvent(String event) {
+        synchronized (events) {
+            events.add(event);
+        }
+    }
+
+    private static long now() {
+        return originMicros + (System.nanoTime() - originNanos) / 1000;
+    }
+
+    private static long microsSinceJvmStart() {
+        long startMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        return Math.max(0, System.currentTimeMillis() - startMillis) * 1000;
+    }
+
+    private static long threadId() {
+        Thread thread = Thread.currentThread();
+        synchronized (events) {
+            threadNames.putIfAbsent(thread.getId(), thread.getName());
+        }
+        return thread.getId();
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A running span; closing it records its duration
+     */
+    public static class Span implements AutoCloseable {
+        private final String category;
+        private final String name;
+        private final long start;
+
+        private Span(String category, String name) {
+            this.category = category;
+            this.name = name;
+            this.start = category != null ? now() : 0;
+        }
+
+        @Override
+        public void close() {
+            if (category == null || finished) {
+                return;
+            }
+            long end = now();
+            addEvent("{\"name\":\"" + escape(name) + "\",\"cat\":\"" + category + "\",\"ph\":\"X\",\"ts\":" + start
+                    + ",\"dur\":" + (end - start) + ",\"pid\":1,\"tid\":" + threadId() + "}");
+            recordClassCount();
+        }
+    }
+}
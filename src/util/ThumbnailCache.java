@@ -0,0 +1,237 @@
+package util;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Small pre-scaled versions of candidate photos for avatars.
+ *
+ * Originals are decoded with source subsampling so only about as many pixels as the
+ * thumbnail needs are read, then scaled to the exact size. Thumbnails are written at
+ * 1x and 2x to a cache directory keyed by source path, modification time and size,
+ * so later launches load the small files instead of decoding the originals again.
+ * Decoded thumbnails are kept in the shared ImageCache.
+ *
+ * The cache directory defaults to ~/.gabay/thumbnails and can be changed with
+ * -Dgabay.thumbnailDir=PATH. When the AvatarStore is enabled it is checked first.
+ */
+public class ThumbnailCache {
+
+    static final File CACHE_DIR = new File(System.getProperty("gabay.thumbnailDir",
+            System.getProperty("user.home") + File.separator + ".gabay" + File.separator + "thumbnails"));
+
+    // Avatar diameters used by the overview list and the search cards
+    public static final int LIST_AVATAR_SIZE = 40;
+    public static final int CARD_AVATAR_SIZE = 60;
+
+    private static final ThumbnailCache instance = new ThumbnailCache();
+
+    private ThumbnailCache() {
+    }
+
+    /**
+     * Get the shared thumbnail cache
+     */
+    public static ThumbnailCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get a thumbnail whose shorter side matches the given size on the current display
+     *
+     * @param path Path to the original image
+     * @param size Avatar size in logical pixels
+     * @return The thumbnail, or null if the original is missing or unreadable
+     */
+    public BufferedImage getThumbnail(String path, int size) {
+        File source = toFile(path);
+        if (source == null || size <= 0) {
+            return null;
+        }
+        int pixels = size * getScaleFactor();
+        return ImageCache.getInstance().getImage(cacheKey(source, pixels), () -> loadThumbnail(source, size, pixels));
+    }
+
+    /**
+     * Get a thumbnail only if it is already in memory or in the avatar store,
+     * so it can be shown without decoding anything
+     */
+    public BufferedImage getCachedThumbnail(String path, int size) {
+        File source = toFile(path);
+        if (source == null || size <= 0) {
+            return null;
+        }
+        int pixels = size * getScaleFactor();
+        String key = cacheKey(source, pixels);
+        BufferedImage image = ImageCache.getInstance().getCachedImageByKey(key);
+        if (image == null && AvatarStore.ENABLED) {
+            // Read the store directly: going through getImage would wait on an in-flight
+            // decode of this key, or hand a store miss to a concurrent getThumbnail
+            image = AvatarStore.getInstance().get(source, pixels);
+            if (image != null) {
+                ImageCache.getInstance().putImage(key, image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Load a thumbnail on the background pool and hand it to the callback on the EDT.
+     * The callback receives null if the original is missing or unreadable.
+     *
+     * @return A future that can be cancelled if the result is no longer needed
+     */
+    public Future<?> getThumbnailAsync(String path, int size, Consumer<BufferedImage> onLoaded) {
+        return ImageCache.getInstance().loadAsync(() -> getThumbnail(path, size), onLoaded);
+    }
+
+    /**
+     * Thumbnail resolution for the default screen: 2 on HiDPI displays, otherwise 1
+     */
+    public static int getScaleFactor() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return 1;
+        }
+        double scale = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().getDefaultTransform().getScaleX();
+        return scale > 1.0 ? 2 : 1;
+    }
+
+    /**
+     * Load a thumbnail from the disk cache, or build both resolutions from the original
+     */
+    private BufferedImage loadThumbnail(File source, int size, int pixels) throws IOException {
+        if (!source.exists()) {
+            return null;
+        }
+
+        BufferedImage stored = AvatarStore.getInstance().get(source, pixels);
+        if (stored != null) {
+            return stored;
+        }
+
+        String baseName = diskKey(source);
+        File cached = new File(CACHE_DIR, baseName + "_" + pixels + ".png");
+        if (cached.exists()) {
+            BufferedImage image = ImageIO.read(cached);
+            if (image != null) {
+                return image;
+            }
+        }
+
+        // Decode once at the larger size and derive the smaller one from it
+        BufferedImage large = scaleToFit(decodeSubsampled(source, size * 2), size * 2);
+        BufferedImage small = scaleToFit(large, size);
+        writeThumbnail(new File(CACHE_DIR, baseName + "_" + (size * 2) + ".png"), large);
+        writeThumbnail(new File(CACHE_DIR, baseName + "_" + size + ".png"), small);
+
+        return pixels == size ? small : large;
+    }
+
+    /**
+     * Decode an image, skipping pixels so its shorter side stays at or above the target
+     */
+    private static BufferedImage decodeSubsampled(File source, int target) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                throw new IOException("Cannot open " + source);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int factor = Math.max(1, shortSide / target);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image so its shorter side equals the target size
+     */
+    private static BufferedImage scaleToFit(BufferedImage image, int target) {
+        double scale = (double) target / Math.min(image.getWidth(), image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = result.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return result;
+    }
+
+    private static void writeThumbnail(File file, BufferedImage image) {
+        try {
+            if (!CACHE_DIR.exists() && !CACHE_DIR.mkdirs()) {
+                return;
+            }
+            // Write to a temporary file first so a concurrent reader never sees a partial PNG
+            File temp = new File(CACHE_DIR, file.getName() + ".tmp");
+            ImageIO.write(image, "png", temp);
+            if (!temp.renameTo(file)) {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing thumbnail " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static File toFile(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        return new File(path.trim());
+    }
+
+    /**
+     * Memory cache key, tied to the same file identity as the disk cache so a photo
+     * replaced during the session is not served from memory
+     */
+    private static String cacheKey(File source, int pixels) {
+        return "thumbnail:" + diskKey(source) + "@" + pixels;
+    }
+
+    /**
+     * File name stem that changes whenever the original is moved, edited or replaced
+     */
+    static String diskKey(File source) {
+        String identity = ImageCache.keyFor(source) + "|" + source.lastModified() + "|" + source.length();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(identity.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(identity.hashCode());
+        }
+    }
+}